@@ -0,0 +1,144 @@
+package com.rentacar.benchmark;
+
+import com.rentacar.dto.AvailabilityMatrix;
+import com.rentacar.exception.InvalidTimeException;
+import com.rentacar.exception.PastDateException;
+import com.rentacar.repository.AppointmentRepository;
+import com.rentacar.service.AppointmentService;
+import com.rentacar.service.BookingMetrics;
+import com.rentacar.service.SlotOccupancyIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Randevu doğrulama ve müsaitlik mikro-benchmark'ı
+ * - validateDate / validateTime (geçerli ve hata fırlatan yollar)
+ * - bookedTimes: bir araç-günün dolu saatleri (slot indeksinden, getBookedTimesForVehicle)
+ * - availabilityMatrix: VEHICLES araç x DAYS gün müsaitlik bitmask'leri (getAvailabilityMatrix)
+ *
+ * Veritabanı yoktur: repository yalnızca dolu slot listesini dönen bir stub'dır;
+ * müsaitlik ölçümleri sorgu sonucunu işleme maliyetini gösterir.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingValidationBenchmark {
+
+    private static final int VEHICLES = 20;
+    private static final int DAYS = 7;
+    private static final int BOOKED_SLOTS_PER_DAY = 3;
+
+    private AppointmentService appointmentService;
+    private List<Long> vehicleIds;
+
+    private LocalDate futureDate;
+    private LocalDate pastDate;
+    private final LocalTime openTime = LocalTime.of(10, 0);
+    private final LocalTime closedTime = LocalTime.of(20, 0);
+
+    @Setup
+    public void setUp() {
+        futureDate = LocalDate.now().plusDays(1);
+        pastDate = LocalDate.now().minusDays(1);
+
+        // Her araç her gün 09:00, 12:00 ve 15:00'te dolu
+        vehicleIds = new ArrayList<>(VEHICLES);
+        List<AppointmentRepository.BookedSlot> slots = new ArrayList<>(VEHICLES * DAYS * BOOKED_SLOTS_PER_DAY);
+        for (long vehicleId = 1; vehicleId <= VEHICLES; vehicleId++) {
+            vehicleIds.add(vehicleId);
+            for (int day = 0; day < DAYS; day++) {
+                for (int slot = 0; slot < BOOKED_SLOTS_PER_DAY; slot++) {
+                    slots.add(bookedSlot(vehicleId, futureDate.plusDays(day), LocalTime.of(9 + 3 * slot, 0)));
+                }
+            }
+        }
+        AppointmentRepository appointmentRepository = stubAppointmentRepository(slots);
+        SlotOccupancyIndex index = new SlotOccupancyIndex(appointmentRepository);
+        index.load();
+        appointmentService = new AppointmentService(appointmentRepository, null, index, null, null,
+                new BookingMetrics(new SimpleMeterRegistry()), null);
+    }
+
+    @Benchmark
+    public void validateDate() {
+        appointmentService.validateDate(futureDate);
+    }
+
+    @Benchmark
+    public Object validateDatePast() {
+        try {
+            appointmentService.validateDate(pastDate);
+            return null;
+        } catch (PastDateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void validateTime() {
+        appointmentService.validateTime(openTime);
+    }
+
+    @Benchmark
+    public Object validateTimeOutsideHours() {
+        try {
+            appointmentService.validateTime(closedTime);
+            return null;
+        } catch (InvalidTimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public List<LocalTime> bookedTimes() {
+        return appointmentService.getBookedTimesForVehicle(1L, futureDate);
+    }
+
+    @Benchmark
+    public AvailabilityMatrix availabilityMatrix() {
+        return appointmentService.getAvailabilityMatrix(vehicleIds, futureDate, futureDate.plusDays(DAYS - 1));
+    }
+
+    // SlotOccupancyIndex.load ve getAvailabilityMatrix sorgularına aynı dolu slot listesini döner
+    private static AppointmentRepository stubAppointmentRepository(List<AppointmentRepository.BookedSlot> slots) {
+        return (AppointmentRepository) Proxy.newProxyInstance(AppointmentRepository.class.getClassLoader(),
+                new Class<?>[] { AppointmentRepository.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findBookedSlotsFrom":
+                        case "findBookedSlotsBetween":
+                            return slots;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static AppointmentRepository.BookedSlot bookedSlot(Long vehicleId, LocalDate date, LocalTime time) {
+        return new AppointmentRepository.BookedSlot() {
+            @Override
+            public Long getVehicleId() {
+                return vehicleId;
+            }
+
+            @Override
+            public LocalDate getAppointmentDate() {
+                return date;
+            }
+
+            @Override
+            public LocalTime getAppointmentTime() {
+                return time;
+            }
+        };
+    }
+}
@@ -0,0 +1,192 @@
+package com.rentacar.benchmark;
+
+import com.rentacar.RentacarApplication;
+import com.rentacar.exception.AppointmentConflictException;
+import com.rentacar.repository.AppointmentRepository;
+import com.rentacar.repository.VehicleRepository;
+import com.rentacar.service.AppointmentService;
+import com.rentacar.service.BookingMetrics;
+import com.rentacar.service.SlotOccupancyIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Randevu alma yolunda çakışma kontrolü mikro-benchmark'ı
+ * (AppointmentService.createAppointment, controller'ların çağırdığı giriş)
+ * Aynı filo, aynı veritabanı (test profili, H2) üzerinde iki karar yoluyla rezerve edilir:
+ * - slotIndex: slot indeksi kapsıyor; çakışma tryReserve ile INSERT'ten önce reddedilir
+ * - uniqueKey: indeks kapsamıyor; karar INSERT sırasında uk_vehicle_date_time ile verilir
+ *
+ * İki yol da aynı kalıcılık adımlarını (araç sorgusu, INSERT + flush, geri alma) çalıştırır;
+ * sonuçlar arasındaki fark yalnızca çakışma kontrolünün maliyetidir.
+ * Her işlem geri alınır: tryReserve'ün kaydettiği senkronizasyon rezervasyonu kaldırır,
+ * böylece aynı slot tekrar tekrar alınabilir ve geri alma maliyeti de ölçüme girer.
+ *
+ * Her araç yarın 09:00-11:00 arası doludur; conflictRatio oranındaki istekler bu dolu
+ * saatlere, kalanlar aynı günün boş saatlerine gider.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+// Hibernate ve JDBC yolu JIT ile geç ısınır
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConflictDetectionBenchmark {
+
+    private static final int BOOKED_SLOTS_PER_VEHICLE = 3;
+    private static final int FREE_SLOTS_PER_VEHICLE = 7;
+    private static final int LOOKUPS = 1024;
+
+    /**
+     * Veritabanındaki filo ve rastgele istek anahtarları
+     */
+    @State(Scope.Benchmark)
+    public abstract static class Fleet {
+
+        @Param({ "10", "1000", "100000" })
+        public int fleetSize;
+
+        // Dolu slota giden isteklerin oranı
+        @Param({ "0", "0.2", "1" })
+        public double conflictRatio;
+
+        final LocalDate date = LocalDate.now().plusDays(1);
+
+        final long[] vehicleIds = new long[LOOKUPS];
+        final LocalTime[] times = new LocalTime[LOOKUPS];
+        int cursor;
+
+        private ConfigurableApplicationContext context;
+        private TransactionTemplate transactionTemplate;
+        private AppointmentService appointmentService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // Controller'lar ServletContext istediği için web uygulaması rastgele portta açılır;
+            // uk_vehicle_date_time ihlali başına yazılan Hibernate hata logları kapatılır
+            context = new SpringApplicationBuilder(RentacarApplication.class)
+                    .profiles("test")
+                    .properties("server.port=0",
+                            "logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF",
+                            "logging.level.org.hibernate.orm.jdbc.batch=OFF")
+                    .run();
+            seed(context.getBean(JdbcTemplate.class));
+
+            AppointmentRepository repository = context.getBean(AppointmentRepository.class);
+            PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+            appointmentService = new AppointmentService(repository, context.getBean(VehicleRepository.class),
+                    slotIndex(repository), null, context, new BookingMetrics(new SimpleMeterRegistry()),
+                    transactionManager);
+            transactionTemplate = new TransactionTemplate(transactionManager);
+            prepareLookups();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        // Servisin kullanacağı slot indeksi (tohum verisinden sonra oluşturulur)
+        abstract SlotOccupancyIndex slotIndex(AppointmentRepository repository);
+
+        /**
+         * Sıradaki isteği geri alınan bir transaction içinde randevu alma girişinden geçir
+         * Çakışma reddi de bir sonuçtur: istisna döndürülür
+         */
+        Object bookAndRollBack() {
+            int i = cursor++ & (LOOKUPS - 1);
+            try {
+                return transactionTemplate.execute(status -> {
+                    status.setRollbackOnly();
+                    return appointmentService.createAppointment(vehicleIds[i], "Benchmark", "05551234567", null,
+                            date, times[i]);
+                });
+            } catch (AppointmentConflictException e) {
+                return e;
+            }
+        }
+
+        private void prepareLookups() {
+            Random random = new Random(42);
+            for (int i = 0; i < LOOKUPS; i++) {
+                vehicleIds[i] = 1 + random.nextInt(fleetSize);
+                times[i] = random.nextDouble() < conflictRatio
+                        ? bookedTime(random.nextInt(BOOKED_SLOTS_PER_VEHICLE))
+                        : bookedTime(BOOKED_SLOTS_PER_VEHICLE + random.nextInt(FREE_SLOTS_PER_VEHICLE));
+            }
+        }
+
+        private void seed(JdbcTemplate jdbcTemplate) {
+            List<Object[]> vehicles = new ArrayList<>(fleetSize);
+            List<Object[]> appointments = new ArrayList<>(fleetSize * BOOKED_SLOTS_PER_VEHICLE);
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            long appointmentId = 0;
+            for (long vehicleId = 1; vehicleId <= fleetSize; vehicleId++) {
+                vehicles.add(new Object[] { vehicleId, "Marka" + vehicleId % 20, "Model" + vehicleId, 2020 });
+                for (int slot = 0; slot < BOOKED_SLOTS_PER_VEHICLE; slot++) {
+                    appointments.add(new Object[] { --appointmentId, vehicleId, "Benchmark", "05551234567",
+                            Date.valueOf(date), Time.valueOf(bookedTime(slot)), now });
+                }
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO vehicles (id, brand, model, production_year, available, version) "
+                    + "VALUES (?, ?, ?, ?, TRUE, 0)", vehicles);
+            // Negatif ID'ler: ölçülen INSERT'lerin appointment_seq'ten aldığı ID'lerle çakışmaz
+            jdbcTemplate.batchUpdate("INSERT INTO appointments (id, vehicle_id, customer_name, customer_phone, "
+                    + "appointment_date, appointment_time, status, created_at) VALUES (?, ?, ?, ?, ?, ?, 'PENDING', ?)",
+                    appointments);
+        }
+
+        private static LocalTime bookedTime(int slot) {
+            return LocalTime.of(9 + slot, 0);
+        }
+    }
+
+    /**
+     * Tohum verisiyle yüklenmiş slot indeksi
+     */
+    public static class IndexedFleet extends Fleet {
+
+        @Override
+        SlotOccupancyIndex slotIndex(AppointmentRepository repository) {
+            SlotOccupancyIndex index = new SlotOccupancyIndex(repository);
+            index.load();
+            return index;
+        }
+    }
+
+    /**
+     * Yüklenmemiş slot indeksi: her istek INSERT'e gider
+     */
+    public static class UniqueKeyFleet extends Fleet {
+
+        @Override
+        SlotOccupancyIndex slotIndex(AppointmentRepository repository) {
+            return new SlotOccupancyIndex(repository);
+        }
+    }
+
+    @Benchmark
+    public Object slotIndex(IndexedFleet fleet) {
+        return fleet.bookAndRollBack();
+    }
+
+    @Benchmark
+    public Object uniqueKey(UniqueKeyFleet fleet) {
+        return fleet.bookAndRollBack();
+    }
+}
@@ -0,0 +1,44 @@
+package com.rentacar.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Önbellek Konfigürasyonu
+ * - Araç kataloğu Caffeine ile bellekte tutulur (boyut + TTL sınırlı, hit/miss istatistikli)
+ * - Yazmalar transaction commit'ine ertelenir; rollback olan veri önbelleğe girmez
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // ID -> Vehicle
+    public static final String VEHICLES = "vehicles";
+
+    // "all" / "available" -> List<Vehicle>
+    public static final String VEHICLE_LISTS = "vehicleLists";
+
+    // ID -> render edilmiş araç kartları (VehicleCardRenderer)
+    public static final String VEHICLE_CARDS = "vehicleCards";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.vehicles.maximum-size:500}") long maximumSize,
+            @Value("${app.cache.vehicles.expire-after-write:10m}") Duration expireAfterWrite) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(VEHICLES, VEHICLE_LISTS, VEHICLE_CARDS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
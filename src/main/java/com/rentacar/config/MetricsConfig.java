@@ -0,0 +1,31 @@
+package com.rentacar.config;
+
+import com.rentacar.model.AppointmentStatus;
+import com.rentacar.service.AppointmentStatisticsService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Metrik Konfigürasyonu
+ * - Bekleyen / onaylı randevu birikimi gauge olarak yayınlanır (appointments_backlog{status})
+ * - Değerler AppointmentStatisticsService'in bellekteki sayılarından okunur; scrape sorgu çalıştırmaz
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder appointmentBacklogMetrics(AppointmentStatisticsService statisticsService) {
+        return registry -> {
+            for (AppointmentStatus status : List.of(AppointmentStatus.PENDING, AppointmentStatus.CONFIRMED)) {
+                Gauge.builder("appointments.backlog", statisticsService, stats -> stats.getCount(status))
+                        .description("Durumuna göre randevu birikimi")
+                        .tag("status", status.name().toLowerCase())
+                        .register(registry);
+            }
+        };
+    }
+}
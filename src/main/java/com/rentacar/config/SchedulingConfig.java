@@ -0,0 +1,13 @@
+package com.rentacar.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Zamanlanmış Görev Konfigürasyonu
+ * - Bellekteki randevu istatistikleri periyodik olarak veritabanıyla uzlaştırılır
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,6 @@
 package com.rentacar.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,10 +13,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+
 /**
  * Spring Security Konfigürasyonu
  * - Public sayfalar: Ana sayfa, araçlar, randevu formu
  * - Korumalı sayfalar: Admin panel (Basic Auth)
+ * - Doğrulanan admin parolası kısa süre önbelleklenir (CachingPasswordEncoder);
+ *   her Basic Auth isteği BCrypt maliyeti ödemez
  */
 @Configuration
 @EnableWebSecurity
@@ -31,8 +36,13 @@ public class SecurityConfig {
                         .permitAll()
                         // H2 Console (development)
                         .requestMatchers("/h2-console/**").permitAll()
-                        // Admin sayfaları
-                        .requestMatchers("/admin/**").hasRole("ADMIN")
+                        // Actuator: sağlık kontrolü açık, metrikler (Prometheus scrape) admin yetkisiyle
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        // Admin sayfaları ve admin API
+                        .requestMatchers("/admin/**", "/api/v1/admin/**").hasRole("ADMIN")
+                        // Public REST API (araçlar, müsaitlik, randevu)
+                        .requestMatchers("/api/v1/**").permitAll()
                         // Diğer tüm istekler authenticated
                         .anyRequest().authenticated())
                 // HTTP Basic Auth (Admin için)
@@ -58,7 +68,9 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.credential-cache.ttl:5m}") Duration ttl,
+            @Value("${app.security.credential-cache.maximum-size:1000}") long maximumSize) {
+        return new CachingPasswordEncoder(new BCryptPasswordEncoder(), ttl, maximumSize);
     }
 }
@@ -0,0 +1,67 @@
+package com.rentacar.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * Web Konfigürasyonu
+ * - /api/v1 yanıtlarına gövde özetinden ETag eklenir;
+ *   If-None-Match eşleşirse gövde gönderilmeden 304 döner
+ * - Statik kaynaklarda bir yıllık önbellek yalnızca içerik özetli (parmak izli) URL'lere verilir;
+ *   parmak izsiz URL'ler (ör. /css/style.css, /images/*.jpg) kısa süreyle önbelleklenir
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // Content stratejisinin ürettiği dosya adı: style-<md5>.css
+    private static final Pattern FINGERPRINTED = Pattern.compile("-[0-9a-f]{32}\\.[^/.]+$");
+
+    private final CacheControl versionedCache;
+    private final CacheControl unversionedCache;
+
+    public WebConfig(@Value("${app.static-resources.versioned-max-age:365d}") Duration versionedMaxAge,
+            @Value("${app.static-resources.max-age:10m}") Duration maxAge) {
+        this.versionedCache = CacheControl.maxAge(versionedMaxAge).cachePublic();
+        this.unversionedCache = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> apiEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/v1/*");
+        registration.setName("apiEtagFilter");
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Resource handler'a önbellek süresi verilmediği için başlığı ezmez
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (handler instanceof ResourceHttpRequestHandler) {
+                    CacheControl cacheControl = FINGERPRINTED.matcher(request.getRequestURI()).find()
+                            ? versionedCache
+                            : unversionedCache;
+                    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+                }
+                return true;
+            }
+        });
+    }
+}
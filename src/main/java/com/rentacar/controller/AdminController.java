@@ -1,12 +1,26 @@
 package com.rentacar.controller;
 
+import com.rentacar.dto.AppointmentForm;
+import com.rentacar.dto.AppointmentPage;
+import com.rentacar.dto.BookingResult;
+import com.rentacar.dto.DashboardStatistics;
 import com.rentacar.model.AppointmentStatus;
+import com.rentacar.model.Vehicle;
 import com.rentacar.service.AppointmentService;
+import com.rentacar.service.AppointmentStatisticsService;
+import com.rentacar.service.VehicleService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Admin panel controller
  * HTTP Basic Auth ile korumalı
@@ -15,45 +29,102 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @RequestMapping("/admin")
 public class AdminController {
 
+    // Dashboard listelerinin boyutu
+    private static final int DASHBOARD_PAGE_SIZE = 10;
+
     private final AppointmentService appointmentService;
+    private final AppointmentStatisticsService statisticsService;
+    private final VehicleService vehicleService;
 
-    public AdminController(AppointmentService appointmentService) {
+    public AdminController(AppointmentService appointmentService,
+            AppointmentStatisticsService statisticsService,
+            VehicleService vehicleService) {
         this.appointmentService = appointmentService;
+        this.statisticsService = statisticsService;
+        this.vehicleService = vehicleService;
     }
 
     /**
-     * Admin dashboard - Tüm randevular
+     * Admin dashboard - Özet ve yaklaşan randevular
      */
     @GetMapping
     public String dashboard(Model model) {
-        model.addAttribute("appointments", appointmentService.getAllAppointments());
-        model.addAttribute("todayAppointments", appointmentService.getTodayAppointments());
-        model.addAttribute("pendingCount",
-                appointmentService.getAppointmentsByStatus(AppointmentStatus.PENDING).size());
+        model.addAttribute("appointments", appointmentService.getAppointmentPage(
+                null, null, LocalDate.now(), null, null, DASHBOARD_PAGE_SIZE).getItems());
+        // Bugünkü randevular da sayfalı; tamamı randevu listesinde
+        LocalDate today = LocalDate.now();
+        model.addAttribute("todayAppointments", appointmentService.getAppointmentPage(
+                null, null, today, today, null, DASHBOARD_PAGE_SIZE).getItems());
+        model.addAttribute("today", today);
+
+        // Sayılar bellekteki özetten gelir, liste yüklenmez
+        DashboardStatistics statistics = statisticsService.getDashboardStatistics();
+        model.addAttribute("totalCount", statistics.getTotalCount());
+        model.addAttribute("pendingCount", statistics.getCount(AppointmentStatus.PENDING));
+        model.addAttribute("todayCount", statistics.getTodayCount());
+        model.addAttribute("vehicleLoads", vehicleLoads(statistics.getUpcomingByVehicle()));
         return "admin/dashboard";
     }
 
     /**
-     * Tüm randevuları listele
+     * Araç adı -> yaklaşan aktif randevu sayısı
+     */
+    private Map<String, Long> vehicleLoads(Map<Long, Long> upcomingByVehicle) {
+        Map<String, Long> loads = new LinkedHashMap<>();
+        for (Vehicle vehicle : vehicleService.getAllVehicles()) {
+            Long upcoming = upcomingByVehicle.get(vehicle.getId());
+            if (upcoming != null) {
+                loads.put(vehicle.getFullName(), upcoming);
+            }
+        }
+        return loads;
+    }
+
+    /**
+     * Randevuları listele (filtreli, keyset sayfalı)
      */
     @GetMapping("/appointments")
-    public String allAppointments(@RequestParam(required = false) String status, Model model) {
+    public String allAppointments(@RequestParam(required = false) String status,
+            @RequestParam(required = false) Long vehicleId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + AppointmentService.DEFAULT_PAGE_SIZE) int size,
+            Model model) {
+        AppointmentStatus appointmentStatus = null;
         if (status != null && !status.isBlank()) {
             try {
-                AppointmentStatus appointmentStatus = AppointmentStatus.valueOf(status.toUpperCase());
-                model.addAttribute("appointments",
-                        appointmentService.getAppointmentsByStatus(appointmentStatus));
+                appointmentStatus = AppointmentStatus.valueOf(status.toUpperCase());
                 model.addAttribute("selectedStatus", status);
             } catch (IllegalArgumentException e) {
-                model.addAttribute("appointments", appointmentService.getAllAppointments());
+                // Geçersiz durum: filtresiz listele
             }
-        } else {
-            model.addAttribute("appointments", appointmentService.getAllAppointments());
         }
+
+        AppointmentPage page = appointmentService.getAppointmentPage(appointmentStatus, vehicleId,
+                fromDate, toDate, AppointmentPage.Cursor.parse(cursor), size);
+        model.addAttribute("appointments", page.getItems());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("vehicleId", vehicleId);
+        model.addAttribute("fromDate", fromDate);
+        model.addAttribute("toDate", toDate);
         model.addAttribute("statuses", AppointmentStatus.values());
         return "admin/appointments";
     }
 
+    /**
+     * Toplu randevu oluştur (JSON) - kurumsal test sürüşü günleri için
+     * Her kalem için BOOKED / CONFLICT / INVALID sonucu döner.
+     */
+    @PostMapping("/appointments/batch")
+    @ResponseBody
+    public ResponseEntity<List<BookingResult>> bookBatch(@RequestBody List<AppointmentForm> requests) {
+        if (!appointmentService.isValidBatchSize(requests.size())) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(appointmentService.bookBatch(requests));
+    }
+
     /**
      * Randevu onayla
      */
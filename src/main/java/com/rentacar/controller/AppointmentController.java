@@ -1,22 +1,26 @@
 package com.rentacar.controller;
 
 import com.rentacar.dto.AppointmentForm;
+import com.rentacar.dto.AvailabilityMatrix;
 import com.rentacar.exception.AppointmentConflictException;
 import com.rentacar.exception.InvalidTimeException;
 import com.rentacar.exception.PastDateException;
 import com.rentacar.model.Appointment;
 import com.rentacar.model.Vehicle;
 import com.rentacar.service.AppointmentService;
+import com.rentacar.service.BookingMetrics;
 import com.rentacar.service.VehicleService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -28,10 +32,13 @@ public class AppointmentController {
 
     private final AppointmentService appointmentService;
     private final VehicleService vehicleService;
+    private final BookingMetrics bookingMetrics;
 
-    public AppointmentController(AppointmentService appointmentService, VehicleService vehicleService) {
+    public AppointmentController(AppointmentService appointmentService, VehicleService vehicleService,
+            BookingMetrics bookingMetrics) {
         this.appointmentService = appointmentService;
         this.vehicleService = vehicleService;
+        this.bookingMetrics = bookingMetrics;
     }
 
     /**
@@ -61,20 +68,19 @@ public class AppointmentController {
 
         // Validation hataları varsa formu tekrar göster
         if (bindingResult.hasErrors()) {
-            model.addAttribute("vehicles", vehicleService.getAvailableVehicles());
-            model.addAttribute("availableTimes", getAvailableTimeSlots());
-            return "appointments/form";
+            return showFormWithErrors(model);
         }
 
         try {
             // Randevu oluştur
-            Appointment appointment = appointmentService.createAppointment(
+            // Toplam süre transaction dışından ölçülür (commit dahil)
+            Appointment appointment = bookingMetrics.recordBooking(() -> appointmentService.createAppointment(
                     form.getVehicleId(),
                     form.getCustomerName(),
                     form.getCustomerPhone(),
                     form.getCustomerEmail(),
                     form.getAppointmentDate(),
-                    form.getAppointmentTime());
+                    form.getAppointmentTime()));
 
             redirectAttributes.addFlashAttribute("successMessage",
                     "Randevunuz başarıyla oluşturuldu! Randevu No: " + appointment.getId());
@@ -88,6 +94,13 @@ public class AppointmentController {
             bindingResult.rejectValue("appointmentTime", "error.conflict", e.getMessage());
         }
 
+        return showFormWithErrors(model);
+    }
+
+    /**
+     * Hatalı formu tekrar göster (araç listesi tek sefer yüklenir)
+     */
+    private String showFormWithErrors(Model model) {
         model.addAttribute("vehicles", vehicleService.getAvailableVehicles());
         model.addAttribute("availableTimes", getAvailableTimeSlots());
         return "appointments/form";
@@ -123,14 +136,32 @@ public class AppointmentController {
         return "redirect:/appointments/my";
     }
 
+    /**
+     * Müsaitlik matrisi (JSON)
+     * Araçlar x günler için boş slotları tek istekte döner.
+     * vehicleIds verilmezse tüm mevcut araçlar kullanılır.
+     */
+    @GetMapping("/availability")
+    @ResponseBody
+    public ResponseEntity<AvailabilityMatrix> availability(
+            @RequestParam(required = false) List<Long> vehicleIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        if (!appointmentService.isValidAvailabilityRange(start, end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (vehicleIds == null || vehicleIds.isEmpty()) {
+            vehicleIds = vehicleService.getAvailableVehicles().stream()
+                    .map(Vehicle::getId)
+                    .toList();
+        }
+        return ResponseEntity.ok(appointmentService.getAvailabilityMatrix(vehicleIds, start, end));
+    }
+
     /**
      * Uygun saat slotlarını getir (09:00 - 18:00 arası, saatlik)
      */
     private List<LocalTime> getAvailableTimeSlots() {
-        List<LocalTime> slots = new ArrayList<>();
-        for (int hour = 9; hour <= 18; hour++) {
-            slots.add(LocalTime.of(hour, 0));
-        }
-        return slots;
+        return appointmentService.getTimeSlots();
     }
 }
@@ -1,10 +1,15 @@
 package com.rentacar.controller;
 
+import com.rentacar.model.Vehicle;
 import com.rentacar.service.VehicleService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
+import java.util.List;
+
 /**
  * Ana sayfa ve genel sayfalar için controller
  */
@@ -12,17 +17,22 @@ import org.springframework.web.bind.annotation.GetMapping;
 public class HomeController {
 
     private final VehicleService vehicleService;
+    private final VehicleCardRenderer vehicleCardRenderer;
 
-    public HomeController(VehicleService vehicleService) {
+    public HomeController(VehicleService vehicleService, VehicleCardRenderer vehicleCardRenderer) {
         this.vehicleService = vehicleService;
+        this.vehicleCardRenderer = vehicleCardRenderer;
     }
 
     /**
      * Ana sayfa
      */
     @GetMapping("/")
-    public String home(Model model) {
-        model.addAttribute("vehicles", vehicleService.getAvailableVehicles());
+    public String home(HttpServletRequest request, HttpServletResponse response, Model model) {
+        List<Vehicle> vehicles = vehicleService.getAvailableVehicles();
+        model.addAttribute("vehicles", vehicles);
+        model.addAttribute("vehicleCards",
+                vehicleCardRenderer.render(vehicles, VehicleCardRenderer.Variant.HOME, request, response));
         return "index";
     }
 }
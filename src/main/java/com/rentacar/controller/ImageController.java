@@ -0,0 +1,42 @@
+package com.rentacar.controller;
+
+import com.rentacar.service.ImageVariantService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.time.Duration;
+
+/**
+ * Araç fotoğrafı varyantları
+ * URL içerik özetini taşıdığı için yanıtlar bir yıl, "immutable" önbelleklenir.
+ */
+@Controller
+public class ImageController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final ImageVariantService imageVariantService;
+
+    public ImageController(ImageVariantService imageVariantService) {
+        this.imageVariantService = imageVariantService;
+    }
+
+    /**
+     * Varyantı servis et (ilk istekte üretilir)
+     */
+    @GetMapping(ImageVariantService.VARIANT_PATH + "{file}")
+    public ResponseEntity<Resource> variant(@PathVariable String file) {
+        return imageVariantService.variant(file)
+                .map(path -> ResponseEntity.ok()
+                        .cacheControl(IMMUTABLE)
+                        .contentType(MediaType.IMAGE_JPEG)
+                        .body((Resource) new FileSystemResource(path)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,102 @@
+package com.rentacar.controller;
+
+import com.rentacar.config.CacheConfig;
+import com.rentacar.model.Vehicle;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Araç kartı render önbelleği
+ * Kart HTML'i (fragments/vehicle-card) araç başına bir kez üretilir ve
+ * CacheConfig.VEHICLE_CARDS içinde araç ID'si ile, version'a bağlı tutulur.
+ * Liste sayfaları hazır kartların birleştirilmesiyle oluşur.
+ *
+ * - Version değişen araç kartı yeniden render edilir
+ * - VehicleService güncelleme / silmede ilgili ID'yi önbellekten çıkarır
+ * - spring.thymeleaf.cache=false (geliştirme) iken önbellek kullanılmaz
+ * - Fragment'lar normal view'lar gibi bean'lere erişebilir (ör. ${@vehicleImages.src(...)})
+ */
+@Component
+public class VehicleCardRenderer {
+
+    private static final String TEMPLATE = "fragments/vehicle-card";
+    private static final String FRAGMENT = "card";
+
+    private final ITemplateEngine templateEngine;
+    private final ApplicationContext applicationContext;
+    private final Cache cache;
+    private final JakartaServletWebApplication application;
+    private final boolean enabled;
+
+    public VehicleCardRenderer(ITemplateEngine templateEngine, ApplicationContext applicationContext,
+            CacheManager cacheManager, ServletContext servletContext,
+            @Value("${spring.thymeleaf.cache:true}") boolean enabled) {
+        this.templateEngine = templateEngine;
+        this.applicationContext = applicationContext;
+        this.cache = cacheManager.getCache(CacheConfig.VEHICLE_CARDS);
+        this.application = JakartaServletWebApplication.buildApplication(servletContext);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Kart varyantı: ana sayfa veya araç listesi (detay bağlantılı)
+     */
+    public enum Variant {
+        HOME, LIST
+    }
+
+    /**
+     * Araç kartlarını sırayla birleştirilmiş HTML olarak döndür
+     */
+    public String render(List<Vehicle> vehicles, Variant variant,
+            HttpServletRequest request, HttpServletResponse response) {
+        StringBuilder html = new StringBuilder();
+        WebContext context = null;
+        for (Vehicle vehicle : vehicles) {
+            RenderedCards cards = enabled ? cache.get(vehicle.getId(), RenderedCards.class) : null;
+            if (cards == null || !Objects.equals(cards.version(), vehicle.getVersion())) {
+                cards = new RenderedCards(vehicle.getVersion(), new ConcurrentHashMap<>());
+                if (enabled) {
+                    cache.put(vehicle.getId(), cards);
+                }
+            }
+            String card = cards.byVariant().get(variant);
+            if (card == null) {
+                if (context == null) {
+                    context = new WebContext(application.buildExchange(request, response), request.getLocale());
+                    context.setVariable(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                            new ThymeleafEvaluationContext(applicationContext, null));
+                }
+                context.setVariable("vehicle", vehicle);
+                context.setVariable("listVariant", variant == Variant.LIST);
+                card = templateEngine.process(new TemplateSpec(TEMPLATE, Set.of(FRAGMENT), TemplateMode.HTML, null),
+                        context);
+                cards.byVariant().put(variant, card);
+            }
+            html.append(card);
+        }
+        return html.toString();
+    }
+
+    // Bir aracın belirli version'ı için render edilmiş kartları (varyant -> HTML)
+    record RenderedCards(Long version, Map<Variant, String> byVariant) {
+    }
+}
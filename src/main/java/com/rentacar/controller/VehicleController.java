@@ -1,10 +1,21 @@
 package com.rentacar.controller;
 
+import com.rentacar.dto.VehicleFacets;
+import com.rentacar.dto.VehicleFilter;
 import com.rentacar.model.Vehicle;
+import com.rentacar.service.CatalogVersion;
+import com.rentacar.service.VehicleAutocompleteIndex;
 import com.rentacar.service.VehicleService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 /**
  * Araç işlemleri için controller
@@ -14,41 +25,95 @@ import org.springframework.web.bind.annotation.*;
 public class VehicleController {
 
     private final VehicleService vehicleService;
+    private final CatalogVersion catalogVersion;
+    private final VehicleCardRenderer vehicleCardRenderer;
 
-    public VehicleController(VehicleService vehicleService) {
+    public VehicleController(VehicleService vehicleService, CatalogVersion catalogVersion,
+            VehicleCardRenderer vehicleCardRenderer) {
         this.vehicleService = vehicleService;
+        this.catalogVersion = catalogVersion;
+        this.vehicleCardRenderer = vehicleCardRenderer;
     }
 
     /**
-     * Tüm araçları listele
+     * Araçları listele (marka, model, yıl aralığı, müsaitlik facet'leri ile, keyset sayfalı)
+     * Yalnızca sayfadaki araçlar veritabanından yüklenir ve render edilir.
      */
     @GetMapping
-    public String listVehicles(Model model) {
-        model.addAttribute("vehicles", vehicleService.getAllVehicles());
+    public String listVehicles(@RequestParam(required = false) String brand,
+            @RequestParam(required = false) String model,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + VehicleService.DEFAULT_PAGE_SIZE) int size,
+            WebRequest request, HttpServletRequest servletRequest, HttpServletResponse response,
+            Model uiModel) {
+        if (notModified(request, response)) {
+            return null;
+        }
+        VehicleFilter filter = new VehicleFilter(brand, model, yearFrom, yearTo, available);
+        VehicleFacets facets = vehicleService.browseVehicles(filter, after, size);
+        addVehicles(uiModel, vehicleService.getVehiclesByIds(facets.getVehicleIds()), servletRequest, response);
+        uiModel.addAttribute("facets", facets);
         return "vehicles/list";
     }
 
+    /**
+     * Arama kutusu için otomatik tamamlama (JSON)
+     */
+    @GetMapping("/autocomplete")
+    @ResponseBody
+    public List<VehicleAutocompleteIndex.Suggestion> autocomplete(@RequestParam String q,
+            @RequestParam(defaultValue = "5") int limit) {
+        return vehicleService.autocomplete(q, limit);
+    }
+
     /**
      * Araç detay sayfası
      */
     @GetMapping("/{id}")
-    public String vehicleDetail(@PathVariable Long id, Model model) {
+    public String vehicleDetail(@PathVariable Long id, WebRequest request, HttpServletResponse response,
+            Model model) {
+        if (notModified(request, response)) {
+            return null;
+        }
         Vehicle vehicle = vehicleService.getVehicleById(id);
         model.addAttribute("vehicle", vehicle);
         return "vehicles/detail";
     }
 
     /**
-     * Marka ile arama
+     * Marka, model, yıl ve açıklamada arama
+     * "brand" parametresi eski bağlantılar için kabul edilir; boş arama listeye yönlendirir
      */
     @GetMapping("/search")
-    public String searchVehicles(@RequestParam(required = false) String brand, Model model) {
-        if (brand != null && !brand.isBlank()) {
-            model.addAttribute("vehicles", vehicleService.searchByBrand(brand));
-            model.addAttribute("searchTerm", brand);
-        } else {
-            model.addAttribute("vehicles", vehicleService.getAllVehicles());
+    public String searchVehicles(@RequestParam(required = false) String q,
+            @RequestParam(required = false) String brand,
+            HttpServletRequest request, HttpServletResponse response, Model model) {
+        String term = (q != null && !q.isBlank()) ? q : brand;
+        if (term == null || term.isBlank()) {
+            // Boş arama: sayfalı tam liste
+            return "redirect:/vehicles";
         }
+        addVehicles(model, vehicleService.search(term), request, response);
+        model.addAttribute("searchTerm", term);
         return "vehicles/list";
     }
+
+    private void addVehicles(Model model, List<Vehicle> vehicles,
+            HttpServletRequest request, HttpServletResponse response) {
+        model.addAttribute("vehicles", vehicles);
+        model.addAttribute("vehicleCards",
+                vehicleCardRenderer.render(vehicles, VehicleCardRenderer.Variant.LIST, request, response));
+    }
+
+    /**
+     * Koşullu istek: katalog sürümü değişmediyse 304 (veritabanı ve şablon atlanır)
+     * Tarayıcı ve proxy saklayabilir ama her kullanımda doğrulamalı (no-cache).
+     */
+    private boolean notModified(WebRequest request, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePublic().getHeaderValue());
+        return request.checkNotModified(catalogVersion.etag(), catalogVersion.lastModified().toEpochMilli());
+    }
 }
@@ -0,0 +1,122 @@
+package com.rentacar.controller.api;
+
+import com.rentacar.dto.AppointmentDto;
+import com.rentacar.dto.AppointmentForm;
+import com.rentacar.dto.AppointmentPage;
+import com.rentacar.dto.BookingResult;
+import com.rentacar.dto.DashboardStatistics;
+import com.rentacar.dto.SqlStatistics;
+import com.rentacar.model.AppointmentStatus;
+import com.rentacar.service.AppointmentService;
+import com.rentacar.service.AppointmentStatisticsService;
+import com.rentacar.service.SqlStatisticsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin REST API (v1)
+ * HTTP Basic Auth ile korumalı (ADMIN rolü)
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+public class AdminApiController {
+
+    // SQL istatistiklerinde listelenen sorgu sayısı
+    private static final int DEFAULT_SQL_STATS_LIMIT = 10;
+    private static final int MAX_SQL_STATS_LIMIT = 50;
+
+    private final AppointmentService appointmentService;
+    private final AppointmentStatisticsService statisticsService;
+    private final SqlStatisticsService sqlStatisticsService;
+    private final FieldSelector fieldSelector;
+
+    public AdminApiController(AppointmentService appointmentService,
+            AppointmentStatisticsService statisticsService,
+            SqlStatisticsService sqlStatisticsService,
+            FieldSelector fieldSelector) {
+        this.appointmentService = appointmentService;
+        this.statisticsService = statisticsService;
+        this.sqlStatisticsService = sqlStatisticsService;
+        this.fieldSelector = fieldSelector;
+    }
+
+    /**
+     * Randevu listesi (filtreli, keyset sayfalı)
+     * Yanıt: { "items": [...], "nextCursor": "..." | null }
+     */
+    @GetMapping("/appointments")
+    public Map<String, Object> appointments(@RequestParam(required = false) AppointmentStatus status,
+            @RequestParam(required = false) Long vehicleId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + AppointmentService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String fields) {
+        AppointmentPage page = appointmentService.getAppointmentPage(status, vehicleId, fromDate, toDate,
+                AppointmentPage.Cursor.parse(cursor), size);
+        List<AppointmentDto> items = page.getItems().stream().map(AppointmentDto::from).toList();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("items", fieldSelector.select(items, fields));
+        body.put("nextCursor", page.hasNext() ? page.getNextCursor().toString() : null);
+        return body;
+    }
+
+    /**
+     * Randevu onayla
+     */
+    @PostMapping("/appointments/{id}/confirm")
+    public AppointmentDto confirm(@PathVariable Long id) {
+        return AppointmentDto.from(appointmentService.confirmAppointment(id));
+    }
+
+    /**
+     * Randevu iptal et
+     */
+    @PostMapping("/appointments/{id}/cancel")
+    public AppointmentDto cancel(@PathVariable Long id) {
+        return AppointmentDto.from(appointmentService.cancelAppointment(id));
+    }
+
+    /**
+     * Toplu randevu oluştur; kalem bazında sonuç döner
+     */
+    @PostMapping("/appointments/batch")
+    public ResponseEntity<List<BookingResult>> bookBatch(@RequestBody List<AppointmentForm> requests) {
+        if (!appointmentService.isValidBatchSize(requests.size())) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(appointmentService.bookBatch(requests));
+    }
+
+    /**
+     * Dashboard sayıları
+     */
+    @GetMapping("/statistics")
+    public DashboardStatistics statistics() {
+        return statisticsService.getDashboardStatistics();
+    }
+
+    /**
+     * En yavaş ve en sık çalışan sorgular (Hibernate istatistikleri)
+     */
+    @GetMapping("/sql-stats")
+    public SqlStatistics sqlStatistics(@RequestParam(defaultValue = "" + DEFAULT_SQL_STATS_LIMIT) int limit) {
+        return sqlStatisticsService.getStatistics(Math.max(1, Math.min(limit, MAX_SQL_STATS_LIMIT)));
+    }
+
+    /**
+     * SQL istatistiklerini sıfırla
+     */
+    @DeleteMapping("/sql-stats")
+    public ResponseEntity<Void> resetSqlStatistics() {
+        sqlStatisticsService.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.rentacar.controller.api;
+
+import com.rentacar.dto.AppointmentDto;
+import com.rentacar.dto.AppointmentForm;
+import com.rentacar.dto.AvailabilityMatrix;
+import com.rentacar.model.Appointment;
+import com.rentacar.model.Vehicle;
+import com.rentacar.service.AppointmentService;
+import com.rentacar.service.BookingMetrics;
+import com.rentacar.service.VehicleService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Müşteri randevu REST API (v1): müsaitlik, randevu alma, randevularım
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class AppointmentApiController {
+
+    private final AppointmentService appointmentService;
+    private final VehicleService vehicleService;
+    private final FieldSelector fieldSelector;
+    private final BookingMetrics bookingMetrics;
+
+    public AppointmentApiController(AppointmentService appointmentService, VehicleService vehicleService,
+            FieldSelector fieldSelector, BookingMetrics bookingMetrics) {
+        this.appointmentService = appointmentService;
+        this.vehicleService = vehicleService;
+        this.fieldSelector = fieldSelector;
+        this.bookingMetrics = bookingMetrics;
+    }
+
+    /**
+     * Araç x gün müsaitlik matrisi
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityMatrix> availability(
+            @RequestParam(required = false) List<Long> vehicleIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        if (!appointmentService.isValidAvailabilityRange(start, end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (vehicleIds == null || vehicleIds.isEmpty()) {
+            vehicleIds = vehicleService.getAvailableVehicles().stream()
+                    .map(Vehicle::getId)
+                    .toList();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(appointmentService.getAvailabilityMatrix(vehicleIds, start, end));
+    }
+
+    /**
+     * Randevu al
+     * Doğrulama hatası 400, çakışma 409 döner (ApiExceptionHandler)
+     */
+    @PostMapping("/appointments")
+    public ResponseEntity<AppointmentDto> create(@Valid @RequestBody AppointmentForm form) {
+        // Toplam süre transaction dışından ölçülür (commit dahil)
+        Appointment appointment = bookingMetrics.recordBooking(() -> appointmentService.createAppointment(
+                form.getVehicleId(),
+                form.getCustomerName(),
+                form.getCustomerPhone(),
+                form.getCustomerEmail(),
+                form.getAppointmentDate(),
+                form.getAppointmentTime()));
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(appointment.getId())
+                .toUri();
+        return ResponseEntity.created(location).body(AppointmentDto.from(appointment));
+    }
+
+    /**
+     * Telefon numarasına ait randevular
+     */
+    @GetMapping("/appointments")
+    public ResponseEntity<Object> byPhone(@RequestParam String phone,
+            @RequestParam(required = false) String fields) {
+        List<AppointmentDto> appointments = appointmentService.getAppointmentsByPhone(phone).stream()
+                .map(AppointmentDto::from)
+                .toList();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(fieldSelector.select(appointments, fields));
+    }
+}
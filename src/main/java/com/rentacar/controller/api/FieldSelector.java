@@ -0,0 +1,55 @@
+package com.rentacar.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * "fields" parametresi ile alan seçimi
+ * Ör. ?fields=id,brand,model yalnızca bu üst düzey alanları döndürür.
+ * Parametre yoksa gövde olduğu gibi döner.
+ */
+@Component
+public class FieldSelector {
+
+    private final ObjectMapper objectMapper;
+
+    public FieldSelector(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Tek nesne ya da koleksiyon elemanlarından istenen alanları seç
+     */
+    public Object select(Object body, String fields) {
+        if (fields == null || fields.isBlank() || body == null) {
+            return body;
+        }
+        Set<String> wanted = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
+        if (body instanceof Collection<?> items) {
+            return items.stream().map(item -> pick(item, wanted)).toList();
+        }
+        return pick(body, wanted);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> pick(Object item, Set<String> wanted) {
+        Map<String, Object> all = objectMapper.convertValue(item, Map.class);
+        Map<String, Object> selected = new LinkedHashMap<>();
+        all.forEach((key, value) -> {
+            if (wanted.contains(key)) {
+                selected.put(key, value);
+            }
+        });
+        return selected;
+    }
+}
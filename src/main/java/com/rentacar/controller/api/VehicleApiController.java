@@ -0,0 +1,93 @@
+package com.rentacar.controller.api;
+
+import com.rentacar.dto.VehicleDto;
+import com.rentacar.dto.VehicleFacets;
+import com.rentacar.dto.VehicleFilter;
+import com.rentacar.model.Vehicle;
+import com.rentacar.service.VehicleService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Araç REST API (v1)
+ * GET yanıtları ETag ile döner (WebConfig); istemci If-None-Match ile tekrar doğrular.
+ */
+@RestController
+@RequestMapping("/api/v1/vehicles")
+public class VehicleApiController {
+
+    private final VehicleService vehicleService;
+    private final FieldSelector fieldSelector;
+
+    public VehicleApiController(VehicleService vehicleService, FieldSelector fieldSelector) {
+        this.vehicleService = vehicleService;
+        this.fieldSelector = fieldSelector;
+    }
+
+    /**
+     * Araç listesi: q verilirse arama, yoksa facet filtreleri (keyset sayfalı)
+     * Sonraki sayfa varsa Link: <...?after=ID>; rel="next" başlığı döner.
+     */
+    @GetMapping
+    public ResponseEntity<Object> list(@RequestParam(required = false) String q,
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) String model,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + VehicleService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String fields) {
+        if (q != null && !q.isBlank()) {
+            return revalidate(select(vehicleService.search(q), fields));
+        }
+        VehicleFacets facets = vehicleService.browseVehicles(
+                new VehicleFilter(brand, model, yearFrom, yearTo, available), after, size);
+        Object body = select(vehicleService.getVehiclesByIds(facets.getVehicleIds()), fields);
+        if (facets.getNextCursor() == null) {
+            return revalidate(body);
+        }
+        String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", facets.getNextCursor())
+                .toUriString();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                .body(body);
+    }
+
+    /**
+     * Facet sayıları
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<Object> facets(@RequestParam(required = false) String brand,
+            @RequestParam(required = false) String model,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) Boolean available) {
+        VehicleFilter filter = new VehicleFilter(brand, model, yearFrom, yearTo, available);
+        return revalidate(vehicleService.browseVehicles(filter, null, VehicleService.DEFAULT_PAGE_SIZE));
+    }
+
+    /**
+     * Araç detayı
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<Object> get(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        return revalidate(fieldSelector.select(VehicleDto.from(vehicleService.getVehicleById(id)), fields));
+    }
+
+    private Object select(List<Vehicle> vehicles, String fields) {
+        return fieldSelector.select(vehicles.stream().map(VehicleDto::from).toList(), fields);
+    }
+
+    // Önbellekte tutulabilir ama her kullanımda ETag ile doğrulanmalı
+    private static ResponseEntity<Object> revalidate(Object body) {
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body);
+    }
+}
@@ -0,0 +1,15 @@
+package com.rentacar.dto;
+
+import java.util.Map;
+
+/**
+ * REST API hata gövdesi
+ *
+ * @param fields alan bazlı doğrulama hataları; yoksa boş
+ */
+public record ApiError(int status, String message, Map<String, String> fields) {
+
+    public static ApiError of(int status, String message) {
+        return new ApiError(status, message, Map.of());
+    }
+}
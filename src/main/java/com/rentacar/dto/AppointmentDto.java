@@ -0,0 +1,21 @@
+package com.rentacar.dto;
+
+import com.rentacar.model.Appointment;
+import com.rentacar.model.AppointmentStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * REST API randevu gösterimi
+ * Araç yalnızca ID ile döner; lazy ilişki yüklenmez.
+ */
+public record AppointmentDto(Long id, Long vehicleId, String customerName, LocalDate appointmentDate,
+        LocalTime appointmentTime, AppointmentStatus status) {
+
+    public static AppointmentDto from(Appointment appointment) {
+        return new AppointmentDto(appointment.getId(), appointment.getVehicle().getId(),
+                appointment.getCustomerName(), appointment.getAppointmentDate(),
+                appointment.getAppointmentTime(), appointment.getStatus());
+    }
+}
@@ -0,0 +1,74 @@
+package com.rentacar.dto;
+
+import com.rentacar.model.Appointment;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Keyset (seek) sayfalama sonucu
+ * Sıralama: (appointmentDate, appointmentTime, id)
+ */
+public class AppointmentPage {
+
+    private final List<Appointment> items;
+    private final Cursor nextCursor;
+
+    public AppointmentPage(List<Appointment> items, Cursor nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+    public List<Appointment> getItems() {
+        return items;
+    }
+
+    /**
+     * Sonraki sayfanın imleci; son sayfada null
+     */
+    public Cursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Sayfa imleci: önceki sayfanın son satırının sıralama anahtarı
+     * URL biçimi: "tarih_saat_id" (ör. 2024-05-01_10:00_42)
+     */
+    public record Cursor(LocalDate date, LocalTime time, Long id) {
+
+        public static Cursor of(Appointment last) {
+            return new Cursor(last.getAppointmentDate(), last.getAppointmentTime(), last.getId());
+        }
+
+        /**
+         * İmleci çöz
+         *
+         * @return imleç ya da boş / geçersizse null (ilk sayfa)
+         */
+        public static Cursor parse(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            String[] parts = value.split("_");
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                return new Cursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.valueOf(parts[2]));
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return date + "_" + time + "_" + id;
+        }
+    }
+}
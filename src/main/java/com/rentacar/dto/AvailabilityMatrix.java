@@ -0,0 +1,59 @@
+package com.rentacar.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Müsaitlik matrisi (araç x gün) için DTO
+ *
+ * Her araç için gün başına tek bir bitmask döner:
+ * bit i = 1 ise slots[i] saati o gün boştur.
+ * Dizinin j. elemanı startDate + j gününe karşılık gelir.
+ */
+public class AvailabilityMatrix {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final List<LocalTime> slots;
+    private final Map<Long, int[]> vehicles;
+
+    public AvailabilityMatrix(LocalDate startDate, LocalDate endDate,
+            List<LocalTime> slots, Map<Long, int[]> vehicles) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.slots = slots;
+        this.vehicles = vehicles;
+    }
+
+    // Getters
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public List<LocalTime> getSlots() {
+        return slots;
+    }
+
+    public Map<Long, int[]> getVehicles() {
+        return vehicles;
+    }
+
+    /**
+     * Belirli araç, gün ve slot boş mu?
+     */
+    public boolean isFree(Long vehicleId, LocalDate date, LocalTime time) {
+        int[] days = vehicles.get(vehicleId);
+        int slot = slots.indexOf(time);
+        if (days == null || slot < 0 || date.isBefore(startDate) || date.isAfter(endDate)) {
+            return false;
+        }
+        int day = (int) (date.toEpochDay() - startDate.toEpochDay());
+        return (days[day] & (1 << slot)) != 0;
+    }
+}
@@ -0,0 +1,57 @@
+package com.rentacar.dto;
+
+/**
+ * Toplu randevu isteğinde tek bir kalemin sonucu
+ */
+public class BookingResult {
+
+    /**
+     * Kalem sonucu
+     */
+    public enum Status {
+        BOOKED,
+        CONFLICT,
+        INVALID
+    }
+
+    private final int index;
+    private final Status status;
+    private final Long appointmentId;
+    private final String message;
+
+    private BookingResult(int index, Status status, Long appointmentId, String message) {
+        this.index = index;
+        this.status = status;
+        this.appointmentId = appointmentId;
+        this.message = message;
+    }
+
+    public static BookingResult booked(int index, Long appointmentId) {
+        return new BookingResult(index, Status.BOOKED, appointmentId, null);
+    }
+
+    public static BookingResult conflict(int index, String message) {
+        return new BookingResult(index, Status.CONFLICT, null, message);
+    }
+
+    public static BookingResult invalid(int index, String message) {
+        return new BookingResult(index, Status.INVALID, null, message);
+    }
+
+    // Getters
+    public int getIndex() {
+        return index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getAppointmentId() {
+        return appointmentId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,46 @@
+package com.rentacar.dto;
+
+import com.rentacar.model.AppointmentStatus;
+
+import java.util.Map;
+
+/**
+ * Admin dashboard özet istatistikleri
+ */
+public class DashboardStatistics {
+
+    private final Map<AppointmentStatus, Long> countsByStatus;
+    private final long todayCount;
+    private final Map<Long, Long> upcomingByVehicle;
+
+    public DashboardStatistics(Map<AppointmentStatus, Long> countsByStatus, long todayCount,
+            Map<Long, Long> upcomingByVehicle) {
+        this.countsByStatus = countsByStatus;
+        this.todayCount = todayCount;
+        this.upcomingByVehicle = upcomingByVehicle;
+    }
+
+    // Getters
+    public Map<AppointmentStatus, Long> getCountsByStatus() {
+        return countsByStatus;
+    }
+
+    public long getCount(AppointmentStatus status) {
+        return countsByStatus.getOrDefault(status, 0L);
+    }
+
+    public long getTotalCount() {
+        return countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long getTodayCount() {
+        return todayCount;
+    }
+
+    /**
+     * Araç ID -> bugünden itibaren aktif (beklemede / onaylı) randevu sayısı
+     */
+    public Map<Long, Long> getUpcomingByVehicle() {
+        return upcomingByVehicle;
+    }
+}
@@ -0,0 +1,18 @@
+package com.rentacar.dto;
+
+import java.util.List;
+
+/**
+ * Hibernate sorgu istatistikleri (admin API)
+ * enabled=false ise hibernate.generate_statistics kapalıdır ve listeler boş döner.
+ */
+public record SqlStatistics(boolean enabled, long queryExecutionCount, long prepareStatementCount,
+        long entityLoadCount, long entityInsertCount, List<QueryStat> slowest, List<QueryStat> mostFrequent) {
+
+    /**
+     * Tek bir sorgunun (HQL / native SQL metni) toplam değerleri; süreler milisaniye
+     */
+    public record QueryStat(String query, long executionCount, long averageTime, long maxTime,
+            long totalTime, long rowCount) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.rentacar.dto;
+
+import com.rentacar.model.Vehicle;
+
+/**
+ * REST API araç gösterimi (entity yerine)
+ */
+public record VehicleDto(Long id, String brand, String model, Integer year, String imageUrl,
+        String description, boolean available) {
+
+    public static VehicleDto from(Vehicle vehicle) {
+        return new VehicleDto(vehicle.getId(), vehicle.getBrand(), vehicle.getModel(), vehicle.getYear(),
+                vehicle.getImageUrl(), vehicle.getDescription(), vehicle.isAvailable());
+    }
+}
@@ -0,0 +1,84 @@
+package com.rentacar.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Facet'li araç listesi sonucu (bellekteki VehicleFacetIndex'ten)
+ *
+ * Her facet'in sayıları, o facet dışındaki filtreler uygulanarak hesaplanır
+ * (ör. marka seçiliyken diğer markaların sayıları da görünür).
+ * Araç ID'leri yalnızca istenen sayfayı içerir (ID sırasına göre keyset sayfalama).
+ */
+public class VehicleFacets {
+
+    private final VehicleFilter filter;
+    private final List<Long> vehicleIds;
+    private final Long nextCursor;
+    private final int matchCount;
+    private final Map<String, Integer> brandCounts;
+    private final Map<String, Integer> modelCounts;
+    private final Map<Integer, Integer> yearCounts;
+    private final int availableCount;
+    private final int unavailableCount;
+
+    public VehicleFacets(VehicleFilter filter, List<Long> vehicleIds, Long nextCursor, int matchCount,
+            Map<String, Integer> brandCounts, Map<String, Integer> modelCounts,
+            Map<Integer, Integer> yearCounts, int availableCount, int unavailableCount) {
+        this.filter = filter;
+        this.vehicleIds = vehicleIds;
+        this.nextCursor = nextCursor;
+        this.matchCount = matchCount;
+        this.brandCounts = brandCounts;
+        this.modelCounts = modelCounts;
+        this.yearCounts = yearCounts;
+        this.availableCount = availableCount;
+        this.unavailableCount = unavailableCount;
+    }
+
+    // Getters
+    public VehicleFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Bu sayfadaki araç ID'leri (artan)
+     */
+    public List<Long> getVehicleIds() {
+        return vehicleIds;
+    }
+
+    /**
+     * Sonraki sayfanın imleci (bu sayfanın son araç ID'si); son sayfada null
+     */
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Filtreye uyan toplam araç sayısı
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    public Map<String, Integer> getBrandCounts() {
+        return brandCounts;
+    }
+
+    public Map<String, Integer> getModelCounts() {
+        return modelCounts;
+    }
+
+    public Map<Integer, Integer> getYearCounts() {
+        return yearCounts;
+    }
+
+    public int getAvailableCount() {
+        return availableCount;
+    }
+
+    public int getUnavailableCount() {
+        return unavailableCount;
+    }
+}
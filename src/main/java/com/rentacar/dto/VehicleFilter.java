@@ -0,0 +1,25 @@
+package com.rentacar.dto;
+
+/**
+ * Araç listesi facet filtresi
+ * Boş (null) alanlar filtre uygulamaz; yıl aralığı iki uçta da kapsayıcıdır.
+ */
+public record VehicleFilter(String brand, String model, Integer yearFrom, Integer yearTo, Boolean available) {
+
+    public static VehicleFilter none() {
+        return new VehicleFilter(null, null, null, null, null);
+    }
+
+    public VehicleFilter {
+        brand = blankToNull(brand);
+        model = blankToNull(model);
+    }
+
+    public boolean isEmpty() {
+        return brand == null && model == null && yearFrom == null && yearTo == null && available == null;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
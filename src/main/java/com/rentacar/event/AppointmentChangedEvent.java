@@ -0,0 +1,19 @@
+package com.rentacar.event;
+
+import com.rentacar.model.AppointmentStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Randevu oluşturuldu ya da durumu değişti
+ * AppointmentService tarafından yayınlanır; dinleyiciler commit sonrası işler.
+ *
+ * @param previousStatus yeni randevuda null
+ */
+public record AppointmentChangedEvent(Long vehicleId, LocalDate appointmentDate,
+        AppointmentStatus previousStatus, AppointmentStatus status) {
+
+    public static AppointmentChangedEvent created(Long vehicleId, LocalDate appointmentDate) {
+        return new AppointmentChangedEvent(vehicleId, appointmentDate, null, AppointmentStatus.PENDING);
+    }
+}
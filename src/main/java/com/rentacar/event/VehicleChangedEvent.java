@@ -0,0 +1,24 @@
+package com.rentacar.event;
+
+import com.rentacar.model.Vehicle;
+
+/**
+ * Araç eklendi, güncellendi ya da silindi
+ * VehicleService tarafından yayınlanır; dinleyiciler commit sonrası işler.
+ *
+ * @param vehicle güncel araç; silmede null
+ */
+public record VehicleChangedEvent(Long vehicleId, Vehicle vehicle) {
+
+    public static VehicleChangedEvent saved(Vehicle vehicle) {
+        return new VehicleChangedEvent(vehicle.getId(), vehicle);
+    }
+
+    public static VehicleChangedEvent deleted(Long vehicleId) {
+        return new VehicleChangedEvent(vehicleId, null);
+    }
+
+    public boolean isDeleted() {
+        return vehicle == null;
+    }
+}
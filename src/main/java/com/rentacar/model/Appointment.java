@@ -15,8 +15,10 @@ import java.time.LocalDateTime;
         "appointment_time" }, name = "uk_vehicle_date_time"))
 public class Appointment {
 
+    // Sequence + pooled optimizer: JDBC batch insert'e izin verir (IDENTITY batching'i kapatır)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_seq")
+    @SequenceGenerator(name = "appointment_seq", sequenceName = "appointment_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
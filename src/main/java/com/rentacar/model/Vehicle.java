@@ -13,8 +13,10 @@ import jakarta.validation.constraints.NotNull;
 @Table(name = "vehicles")
 public class Vehicle {
 
+    // Sequence + pooled optimizer: JDBC batch insert'e izin verir (IDENTITY batching'i kapatır)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vehicle_seq")
+    @SequenceGenerator(name = "vehicle_seq", sequenceName = "vehicle_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Marka boş olamaz")
@@ -39,6 +41,11 @@ public class Vehicle {
     @Column(nullable = false)
     private boolean available = true;
 
+    // Optimistic lock + render önbelleği anahtarı; her güncellemede artar
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Constructors
     public Vehicle() {
     }
@@ -106,6 +113,14 @@ public class Vehicle {
         this.available = available;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // Utility method
     public String getFullName() {
         return brand + " " + model + " (" + year + ")";
@@ -2,12 +2,14 @@ package com.rentacar.repository;
 
 import com.rentacar.model.Appointment;
 import com.rentacar.model.AppointmentStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,7 +17,16 @@ import java.util.List;
  * Appointment entity için veritabanı işlemleri
  */
 @Repository
-public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
+public interface AppointmentRepository extends JpaRepository<Appointment, Long>, AppointmentRepositoryCustom {
+
+    /**
+     * Tüm randevuları getir
+     * Listeleme sorguları aracı aynı SELECT içinde yükler (@EntityGraph);
+     * şablonlardaki apt.vehicle.fullName satır başına ek sorgu üretmez.
+     */
+    @Override
+    @EntityGraph(attributePaths = "vehicle")
+    List<Appointment> findAll();
 
     /**
      * Çakışma kontrolü: Aynı araç, aynı tarih, aynı saat için randevu var mı?
@@ -33,6 +44,7 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     /**
      * Müşteri telefonuna göre randevuları getir
      */
+    @EntityGraph(attributePaths = "vehicle")
     List<Appointment> findByCustomerPhone(String customerPhone);
 
     /**
@@ -43,6 +55,7 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     /**
      * Duruma göre randevuları getir
      */
+    @EntityGraph(attributePaths = "vehicle")
     List<Appointment> findByStatus(AppointmentStatus status);
 
     /**
@@ -63,12 +76,64 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     /**
      * İptal edilmemiş aktif randevuları getir
      */
+    @EntityGraph(attributePaths = "vehicle")
     @Query("SELECT a FROM Appointment a WHERE a.status != :cancelledStatus ORDER BY a.appointmentDate, a.appointmentTime")
     List<Appointment> findActiveAppointments(@Param("cancelledStatus") AppointmentStatus cancelledStatus);
 
     /**
      * Bugünkü randevuları getir
      */
+    @EntityGraph(attributePaths = "vehicle")
     @Query("SELECT a FROM Appointment a WHERE a.appointmentDate = CURRENT_DATE ORDER BY a.appointmentTime")
     List<Appointment> findTodayAppointments();
+
+    /**
+     * Belirli tarihten itibaren dolu slotları getir (slot indeksini doldurmak için)
+     * Sadece araç ID, tarih ve saat okunur; entity yüklenmez
+     */
+    @Query("SELECT a.vehicle.id AS vehicleId, a.appointmentDate AS appointmentDate, a.appointmentTime AS appointmentTime "
+            + "FROM Appointment a WHERE a.appointmentDate >= :fromDate")
+    List<BookedSlot> findBookedSlotsFrom(@Param("fromDate") LocalDate fromDate);
+
+    /**
+     * Araç listesi ve tarih aralığı için dolu slotları tek sorguda getir (müsaitlik matrisi için)
+     */
+    @Query("SELECT a.vehicle.id AS vehicleId, a.appointmentDate AS appointmentDate, a.appointmentTime AS appointmentTime "
+            + "FROM Appointment a WHERE a.vehicle.id IN :vehicleIds "
+            + "AND a.appointmentDate BETWEEN :startDate AND :endDate")
+    List<BookedSlot> findBookedSlotsBetween(@Param("vehicleIds") Collection<Long> vehicleIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Araç + gün + durum bazında randevu sayıları (istatistik servisini doldurmak için)
+     */
+    @Query("SELECT a.vehicle.id AS vehicleId, a.appointmentDate AS appointmentDate, a.status AS status, "
+            + "COUNT(a) AS total FROM Appointment a "
+            + "GROUP BY a.vehicle.id, a.appointmentDate, a.status")
+    List<StatusCount> countByVehicleDateAndStatus();
+
+    /**
+     * Gruplanmış sayım projeksiyonu
+     */
+    interface StatusCount {
+        Long getVehicleId();
+
+        LocalDate getAppointmentDate();
+
+        AppointmentStatus getStatus();
+
+        long getTotal();
+    }
+
+    /**
+     * Dolu slot projeksiyonu
+     */
+    interface BookedSlot {
+        Long getVehicleId();
+
+        LocalDate getAppointmentDate();
+
+        LocalTime getAppointmentTime();
+    }
 }
@@ -0,0 +1,26 @@
+package com.rentacar.repository;
+
+import com.rentacar.model.Appointment;
+import com.rentacar.model.AppointmentStatus;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Randevu Repository - dinamik sorgular
+ * Sorgu metni çalışma anında verilen parametrelere göre kurulur
+ */
+public interface AppointmentRepositoryCustom {
+
+    /**
+     * Filtreli keyset (seek) sayfalama
+     * Sıralama (tarih, saat, id); after* parametreleri önceki sayfanın son satırıdır.
+     * Null filtre / imleç parametreleri sorguya hiç eklenmez.
+     */
+    List<Appointment> findPage(AppointmentStatus status, Long vehicleId,
+            LocalDate fromDate, LocalDate toDate,
+            LocalDate afterDate, LocalTime afterTime, Long afterId,
+            Limit limit);
+}
@@ -0,0 +1,73 @@
+package com.rentacar.repository;
+
+import com.rentacar.model.Appointment;
+import com.rentacar.model.AppointmentStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AppointmentRepositoryCustom implementasyonu
+ *
+ * findPage yalnızca verilen filtreleri WHERE'e ekler; "(:p IS NULL OR ...)" kalıbı
+ * tüm kombinasyonlar için tek genel plan üretir ve indeks kullanılamaz.
+ * İmleç satır değeri karşılaştırmasıdır: (tarih, saat, id) > (:afterDate, :afterTime, :afterId);
+ * veritabanı bunu idx_appointments_date_time üzerinde aralık taramasına çevirir.
+ */
+public class AppointmentRepositoryImpl implements AppointmentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Appointment> findPage(AppointmentStatus status, Long vehicleId,
+            LocalDate fromDate, LocalDate toDate,
+            LocalDate afterDate, LocalTime afterTime, Long afterId,
+            Limit limit) {
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (status != null) {
+            predicates.add("a.status = :status");
+            parameters.put("status", status);
+        }
+        if (vehicleId != null) {
+            predicates.add("a.vehicle.id = :vehicleId");
+            parameters.put("vehicleId", vehicleId);
+        }
+        if (fromDate != null) {
+            predicates.add("a.appointmentDate >= :fromDate");
+            parameters.put("fromDate", fromDate);
+        }
+        if (toDate != null) {
+            predicates.add("a.appointmentDate <= :toDate");
+            parameters.put("toDate", toDate);
+        }
+        if (afterDate != null) {
+            predicates.add("(a.appointmentDate, a.appointmentTime, a.id) > (:afterDate, :afterTime, :afterId)");
+            parameters.put("afterDate", afterDate);
+            parameters.put("afterTime", afterTime);
+            parameters.put("afterId", afterId);
+        }
+
+        StringBuilder jpql = new StringBuilder("SELECT a FROM Appointment a JOIN FETCH a.vehicle");
+        if (!predicates.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        jpql.append(" ORDER BY a.appointmentDate, a.appointmentTime, a.id");
+
+        TypedQuery<Appointment> query = entityManager.createQuery(jpql.toString(), Appointment.class);
+        parameters.forEach(query::setParameter);
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+}
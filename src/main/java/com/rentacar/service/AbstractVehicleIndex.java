@@ -0,0 +1,88 @@
+package com.rentacar.service;
+
+import com.rentacar.event.VehicleChangedEvent;
+import com.rentacar.model.Vehicle;
+import com.rentacar.repository.VehicleRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Bellek içi araç indekslerinin ortak iskeleti
+ * - Uygulama açılışında tüm araçlarla doldurulur
+ * - VehicleChangedEvent ile (commit sonrası) araç bazında güncellenir
+ * - Yazmalar yazma kilidi, sorgular {@link #read(Supplier)} ile okuma kilidi altında çalışır
+ *
+ * Alt sınıf yalnızca kendi yapısını boşaltmayı, araç eklemeyi ve çıkarmayı bilir.
+ */
+public abstract class AbstractVehicleIndex {
+
+    private final VehicleRepository vehicleRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    protected AbstractVehicleIndex(VehicleRepository vehicleRepository) {
+        this.vehicleRepository = vehicleRepository;
+    }
+
+    /**
+     * İndeksi veritabanından doldur
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Vehicle> vehicles = vehicleRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            reset();
+            vehicles.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        loaded(vehicles.size());
+    }
+
+    /**
+     * Araç değişikliğini indekse yansıt (commit sonrası)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.vehicleId());
+            if (!event.isDeleted()) {
+                add(event.vehicle());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sorguyu okuma kilidi altında çalıştır
+     */
+    protected <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Yeniden yüklemeden önce tüm yapıyı boşalt (yazma kilidi altında)
+    protected abstract void reset();
+
+    // Aracı indekse ekle (yazma kilidi altında)
+    protected abstract void add(Vehicle vehicle);
+
+    // Aracı indeksten çıkar; indekste yoksa bir şey yapmaz (yazma kilidi altında)
+    protected abstract void remove(Long vehicleId);
+
+    // Yükleme sonrası özet log
+    protected abstract void loaded(int vehicleCount);
+}
@@ -1,5 +1,10 @@
 package com.rentacar.service;
 
+import com.rentacar.dto.AppointmentForm;
+import com.rentacar.dto.AppointmentPage;
+import com.rentacar.dto.AvailabilityMatrix;
+import com.rentacar.dto.BookingResult;
+import com.rentacar.event.AppointmentChangedEvent;
 import com.rentacar.exception.AppointmentConflictException;
 import com.rentacar.exception.InvalidTimeException;
 import com.rentacar.exception.PastDateException;
@@ -9,11 +14,27 @@ import com.rentacar.model.AppointmentStatus;
 import com.rentacar.model.Vehicle;
 import com.rentacar.repository.AppointmentRepository;
 import com.rentacar.repository.VehicleRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Randevu Service
@@ -32,13 +53,47 @@ public class AppointmentService {
     private static final LocalTime OPENING_TIME = LocalTime.of(9, 0); // 09:00
     private static final LocalTime CLOSING_TIME = LocalTime.of(18, 0); // 18:00
 
+    // Formda sunulan saatlik slotlar (09:00 - 18:00)
+    private static final List<LocalTime> TIME_SLOTS = buildTimeSlots();
+
+    // Randevu listesi sayfa boyutları (web ve API ortak)
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Tek toplu istekte izin verilen en fazla randevu
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    // Toplu randevuda tek transaction'da kaydedilen kalem sayısı (hibernate.jdbc.batch_size ile aynı)
+    private static final int BATCH_CHUNK_SIZE = 50;
+
+    // Müsaitlik matrisinde tek istekte izin verilen en fazla gün
+    public static final int MAX_AVAILABILITY_DAYS = 31;
+
+    // Aynı araç + tarih + saat için veritabanı kısıtı
+    private static final String SLOT_UNIQUE_KEY = "uk_vehicle_date_time";
+
     private final AppointmentRepository appointmentRepository;
     private final VehicleRepository vehicleRepository;
+    private final SlotOccupancyIndex slotOccupancyIndex;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingMetrics bookingMetrics;
+    private final TransactionTemplate chunkTransaction;
 
     public AppointmentService(AppointmentRepository appointmentRepository,
-            VehicleRepository vehicleRepository) {
+            VehicleRepository vehicleRepository,
+            SlotOccupancyIndex slotOccupancyIndex,
+            Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            BookingMetrics bookingMetrics,
+            PlatformTransactionManager transactionManager) {
         this.appointmentRepository = appointmentRepository;
         this.vehicleRepository = vehicleRepository;
+        this.slotOccupancyIndex = slotOccupancyIndex;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.bookingMetrics = bookingMetrics;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -49,6 +104,9 @@ public class AppointmentService {
      * 2. Mesai saati kontrolü (09:00 - 18:00)
      * 3. Çakışma kontrolü (aynı araç, tarih, saat)
      * 
+     * Çakışma kontrolü ayrı bir sorgu yapmaz: slot indeksinde atomik olarak
+     * rezerve edilir, veritabanında ise uk_vehicle_date_time son sözü söyler.
+     * 
      * @param appointment Randevu bilgileri
      * @return Kaydedilen randevu
      * @throws PastDateException            Geçmiş tarihe randevu alınamaz
@@ -56,21 +114,239 @@ public class AppointmentService {
      * @throws AppointmentConflictException Bu slot zaten dolu
      */
     public Appointment createAppointment(Appointment appointment) {
+        // Her aşama BookingMetrics ile ayrı ölçülür; toplam süre controller'da (commit dahil)
+        Long vehicleId = appointment.getVehicle().getId();
+        LocalDate date = appointment.getAppointmentDate();
+        LocalTime time = appointment.getAppointmentTime();
+
         // 1. Geçmiş tarih kontrolü
-        validateDate(appointment.getAppointmentDate());
+        bookingMetrics.record(BookingMetrics.Stage.VALIDATE_DATE, () -> validateDate(date));
 
         // 2. Mesai saati kontrolü
-        validateTime(appointment.getAppointmentTime());
+        bookingMetrics.record(BookingMetrics.Stage.VALIDATE_TIME, () -> validateTime(time));
 
-        // 3. Çakışma kontrolü
-        validateNoConflict(
-                appointment.getVehicle().getId(),
-                appointment.getAppointmentDate(),
-                appointment.getAppointmentTime());
+        // 3. Çakışma kontrolü (indeks kapsıyorsa rezervasyon)
+        boolean reserved = bookingMetrics.record(BookingMetrics.Stage.VALIDATE_NO_CONFLICT,
+                () -> validateNoConflict(vehicleId, date, time));
 
-        // Randevuyu kaydet
+        // Randevuyu kaydet (tek INSERT)
         appointment.setStatus(AppointmentStatus.PENDING);
-        return appointmentRepository.save(appointment);
+        Appointment saved;
+        try {
+            saved = bookingMetrics.record(BookingMetrics.Stage.SAVE,
+                    () -> appointmentRepository.saveAndFlush(appointment));
+        } catch (DataIntegrityViolationException e) {
+            if (isSlotConflict(e)) {
+                throw new AppointmentConflictException(vehicleId, date.toString(), time.toString());
+            }
+            throw e;
+        }
+        if (!reserved) {
+            slotOccupancyIndex.markOccupied(vehicleId, date, time);
+        }
+        eventPublisher.publishEvent(AppointmentChangedEvent.created(vehicleId, date));
+        return saved;
+    }
+
+    /**
+     * Birden fazla randevuyu tek transaction'da oluştur
+     * Her randevu createAppointment ile aynı kurallardan geçer; INSERT'ler JDBC batch
+     * olarak gönderilir. Herhangi bir ihlalde hiçbiri kaydedilmez.
+     *
+     * @throws PastDateException            Geçmiş tarihe randevu alınamaz
+     * @throws InvalidTimeException         Mesai saatleri dışında randevu alınamaz
+     * @throws AppointmentConflictException Slotlardan biri zaten dolu
+     */
+    public List<Appointment> createAppointments(List<Appointment> appointments) {
+        for (Appointment appointment : appointments) {
+            validateDate(appointment.getAppointmentDate());
+            validateTime(appointment.getAppointmentTime());
+        }
+        return reserveAndSave(appointments);
+    }
+
+    /**
+     * Doğrulanmış randevuları rezerve edip kaydet (createAppointments ve bookBatch ortak yolu)
+     * İndeksin kapsadığı slotlar tryReserve ile, kapsamadıkları uk_vehicle_date_time ile korunur;
+     * INSERT'ler JDBC batch olarak gider. Transaction geri alınırsa rezervasyonlar da kalkar.
+     *
+     * @throws AppointmentConflictException slotlardan biri dolu
+     */
+    private List<Appointment> reserveAndSave(List<Appointment> appointments) {
+        List<Appointment> unreserved = new ArrayList<>();
+        for (Appointment appointment : appointments) {
+            if (!validateNoConflict(appointment.getVehicle().getId(),
+                    appointment.getAppointmentDate(),
+                    appointment.getAppointmentTime())) {
+                unreserved.add(appointment);
+            }
+            appointment.setStatus(AppointmentStatus.PENDING);
+        }
+
+        List<Appointment> saved;
+        try {
+            saved = appointmentRepository.saveAllAndFlush(appointments);
+        } catch (DataIntegrityViolationException e) {
+            if (isSlotConflict(e)) {
+                throw new AppointmentConflictException("Toplu kayıtta dolu bir slot bulunuyor.");
+            }
+            throw e;
+        }
+        for (Appointment appointment : unreserved) {
+            slotOccupancyIndex.markOccupied(appointment.getVehicle().getId(),
+                    appointment.getAppointmentDate(),
+                    appointment.getAppointmentTime());
+        }
+        publishCreated(saved);
+        return saved;
+    }
+
+    /**
+     * Toplu istek boyutu kabul edilebilir mi? (1 - MAX_BATCH_SIZE kalem)
+     */
+    public boolean isValidBatchSize(int count) {
+        return count > 0 && count <= MAX_BATCH_SIZE;
+    }
+
+    /**
+     * Toplu randevu (filo etkinlikleri için)
+     *
+     * 1. Tüm kalemler bellekte doğrulanır (form kuralları, tarih, saat)
+     * 2. Gerekli araçlar tek sorguda yüklenir
+     * 3. Çakışmalar slot indeksinden; indeksin kapsamadığı kalemler için tek aralık sorgusuyla
+     *    kontrol edilir (aynı istek içindeki tekrarlar da çakışma sayılır)
+     * 4. Kabul edilen kalemler BATCH_CHUNK_SIZE'lık parçalar halinde, her parça kendi
+     *    transaction'ında JDBC batch olarak kaydedilir
+     *
+     * Reddedilen kalemler diğerlerini engellemez; her kalem için sonuç döner.
+     * Bir slot kontrolden sonra başka bir düğümde alınmışsa (uk_vehicle_date_time) yalnızca o
+     * parça geri alınır ve kalemleri tek tek yeniden denenir; alınmış slot çakışma olarak döner.
+     * Hibernate kısıt ihlalinden sonra transaction'ı kurtarmaya izin vermediği için (savepoint
+     * desteklenmez) parçalar ayrı transaction'lardır: önceki parçalar kalıcıdır.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BookingResult> bookBatch(List<AppointmentForm> requests) {
+        BookingResult[] results = new BookingResult[requests.size()];
+
+        // 1. Bellekte validasyon
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            AppointmentForm request = requests.get(i);
+            Set<ConstraintViolation<AppointmentForm>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results[i] = BookingResult.invalid(i, violations.iterator().next().getMessage());
+                continue;
+            }
+            try {
+                validateDate(request.getAppointmentDate());
+                validateTime(request.getAppointmentTime());
+                candidates.add(i);
+            } catch (PastDateException | InvalidTimeException e) {
+                results[i] = BookingResult.invalid(i, e.getMessage());
+            }
+        }
+
+        // 2. Araçlar tek sorguda
+        Set<Long> vehicleIds = new HashSet<>();
+        for (int i : candidates) {
+            vehicleIds.add(requests.get(i).getVehicleId());
+        }
+        Map<Long, Vehicle> vehicles = new HashMap<>();
+        for (Vehicle vehicle : vehicleRepository.findAllById(vehicleIds)) {
+            vehicles.put(vehicle.getId(), vehicle);
+        }
+
+        // 3a. İndeksin kapsamadığı kalemler için dolu slotlar tek sorguda
+        Set<BookedSlotKey> taken = new HashSet<>();
+        boolean[] covered = new boolean[requests.size()];
+        List<AppointmentForm> uncovered = new ArrayList<>();
+        for (int i : candidates) {
+            AppointmentForm request = requests.get(i);
+            covered[i] = slotOccupancyIndex.covers(request.getVehicleId(), request.getAppointmentDate(),
+                    request.getAppointmentTime());
+            if (!covered[i]) {
+                uncovered.add(request);
+            }
+        }
+        if (!uncovered.isEmpty()) {
+            Set<Long> uncoveredVehicleIds = new HashSet<>();
+            LocalDate from = uncovered.get(0).getAppointmentDate();
+            LocalDate to = from;
+            for (AppointmentForm request : uncovered) {
+                uncoveredVehicleIds.add(request.getVehicleId());
+                from = request.getAppointmentDate().isBefore(from) ? request.getAppointmentDate() : from;
+                to = request.getAppointmentDate().isAfter(to) ? request.getAppointmentDate() : to;
+            }
+            for (AppointmentRepository.BookedSlot slot : appointmentRepository
+                    .findBookedSlotsBetween(uncoveredVehicleIds, from, to)) {
+                taken.add(new BookedSlotKey(slot.getVehicleId(), slot.getAppointmentDate(),
+                        slot.getAppointmentTime()));
+            }
+        }
+
+        // 3b. Çakışma kontrolü (rezervasyon kayıt transaction'ında yapılır)
+        List<Integer> accepted = new ArrayList<>();
+        for (int i : candidates) {
+            AppointmentForm request = requests.get(i);
+            Vehicle vehicle = vehicles.get(request.getVehicleId());
+            if (vehicle == null) {
+                results[i] = BookingResult.invalid(i,
+                        String.format("Araç bulunamadı. ID: %d", request.getVehicleId()));
+                continue;
+            }
+            LocalDate date = request.getAppointmentDate();
+            LocalTime time = request.getAppointmentTime();
+            // İstek içindeki tekrarlar da taken kümesine takılır
+            boolean free = !(covered[i] && slotOccupancyIndex.isOccupied(vehicle.getId(), date, time))
+                    && taken.add(new BookedSlotKey(vehicle.getId(), date, time));
+            if (!free) {
+                results[i] = BookingResult.conflict(i, slotTakenMessage(request));
+                continue;
+            }
+            accepted.add(i);
+        }
+
+        // 4. Parça parça kayıt; parçada alınmış slot varsa kalemler tek tek
+        for (int from = 0; from < accepted.size(); from += BATCH_CHUNK_SIZE) {
+            List<Integer> chunk = accepted.subList(from, Math.min(from + BATCH_CHUNK_SIZE, accepted.size()));
+            try {
+                saveChunk(chunk, requests, vehicles, results);
+            } catch (AppointmentConflictException e) {
+                for (int i : chunk) {
+                    try {
+                        saveChunk(List.of(i), requests, vehicles, results);
+                    } catch (AppointmentConflictException conflict) {
+                        results[i] = BookingResult.conflict(i, slotTakenMessage(requests.get(i)));
+                    }
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    // Kalemleri kendi transaction'ında kaydet; çakışmada parçanın tamamı geri alınır
+    private void saveChunk(List<Integer> indexes, List<AppointmentForm> requests,
+            Map<Long, Vehicle> vehicles, BookingResult[] results) {
+        List<Appointment> appointments = new ArrayList<>(indexes.size());
+        for (int i : indexes) {
+            AppointmentForm request = requests.get(i);
+            Appointment appointment = new Appointment(vehicles.get(request.getVehicleId()),
+                    request.getCustomerName(), request.getCustomerPhone(),
+                    request.getAppointmentDate(), request.getAppointmentTime());
+            appointment.setCustomerEmail(request.getCustomerEmail());
+            appointment.setNotes(request.getNotes());
+            appointments.add(appointment);
+        }
+        List<Appointment> saved = chunkTransaction.execute(status -> reserveAndSave(appointments));
+        for (int k = 0; k < indexes.size(); k++) {
+            int i = indexes.get(k);
+            results[i] = BookingResult.booked(i, saved.get(k).getId());
+        }
+    }
+
+    private static String slotTakenMessage(AppointmentForm request) {
+        return String.format("Bu araç için %s tarihinde saat %s zaten rezerve edilmiş.",
+                request.getAppointmentDate(), request.getAppointmentTime());
     }
 
     /**
@@ -119,14 +395,36 @@ public class AppointmentService {
     /**
      * Çakışma kontrolü
      * Aynı araç, aynı tarih, aynı saat için başka randevu var mı?
+     * Slot indeksi kapsıyorsa kontrol ve rezervasyon tek atomik adımdır (veritabanına gidilmez);
+     * transaction geri alınırsa rezervasyon kalkar. Kapsamıyorsa ayrı sorgu yapılmaz,
+     * son sözü INSERT sırasında uk_vehicle_date_time söyler.
+     *
+     * @return slot indekste rezerve edildiyse true; indeks kapsamıyorsa false
+     * @throws AppointmentConflictException slot zaten dolu
      */
-    public void validateNoConflict(Long vehicleId, LocalDate date, LocalTime time) {
-        boolean exists = appointmentRepository
-                .existsByVehicleIdAndAppointmentDateAndAppointmentTime(vehicleId, date, time);
-
-        if (exists) {
+    public boolean validateNoConflict(Long vehicleId, LocalDate date, LocalTime time) {
+        if (!slotOccupancyIndex.covers(vehicleId, date, time)) {
+            return false;
+        }
+        if (!slotOccupancyIndex.tryReserve(vehicleId, date, time)) {
             throw new AppointmentConflictException(vehicleId, date.toString(), time.toString());
         }
+        return true;
+    }
+
+    private void publishCreated(List<Appointment> appointments) {
+        for (Appointment appointment : appointments) {
+            eventPublisher.publishEvent(AppointmentChangedEvent.created(
+                    appointment.getVehicle().getId(), appointment.getAppointmentDate()));
+        }
+    }
+
+    private record BookedSlotKey(Long vehicleId, LocalDate date, LocalTime time) {
+    }
+
+    private boolean isSlotConflict(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(SLOT_UNIQUE_KEY);
     }
 
     /**
@@ -137,6 +435,29 @@ public class AppointmentService {
         return appointmentRepository.findAll();
     }
 
+    /**
+     * Filtreli randevu sayfası (keyset sayfalama)
+     * Bir fazla satır okunur; varsa sonraki sayfanın imleci döner.
+     *
+     * @param after önceki sayfanın imleci, ilk sayfa için null
+     * @param size  sayfa boyutu; 1 - MAX_PAGE_SIZE aralığına çekilir
+     */
+    @Transactional(readOnly = true)
+    public AppointmentPage getAppointmentPage(AppointmentStatus status, Long vehicleId,
+            LocalDate fromDate, LocalDate toDate, AppointmentPage.Cursor after, int requestedSize) {
+        int size = Math.max(1, Math.min(requestedSize, MAX_PAGE_SIZE));
+        List<Appointment> rows = appointmentRepository.findPage(status, vehicleId, fromDate, toDate,
+                after == null ? null : after.date(),
+                after == null ? null : after.time(),
+                after == null ? null : after.id(),
+                Limit.of(size + 1));
+        if (rows.size() <= size) {
+            return new AppointmentPage(rows, null);
+        }
+        List<Appointment> items = rows.subList(0, size);
+        return new AppointmentPage(items, AppointmentPage.Cursor.of(items.get(size - 1)));
+    }
+
     /**
      * ID ile randevu getir
      */
@@ -159,28 +480,93 @@ public class AppointmentService {
      */
     @Transactional(readOnly = true)
     public List<LocalTime> getBookedTimesForVehicle(Long vehicleId, LocalDate date) {
+        if (slotOccupancyIndex.covers(vehicleId, date)) {
+            return slotOccupancyIndex.occupiedTimes(vehicleId, date);
+        }
         return appointmentRepository.findByVehicleIdAndAppointmentDate(vehicleId, date)
                 .stream()
                 .map(Appointment::getAppointmentTime)
                 .toList();
     }
 
+    /**
+     * Saatlik randevu slotlarını getir (09:00 - 18:00 arası)
+     */
+    public List<LocalTime> getTimeSlots() {
+        return TIME_SLOTS;
+    }
+
+    /**
+     * Müsaitlik aralığı geçerli mi? (start <= end, en fazla MAX_AVAILABILITY_DAYS gün)
+     */
+    public boolean isValidAvailabilityRange(LocalDate startDate, LocalDate endDate) {
+        return !endDate.isBefore(startDate) && !endDate.isAfter(startDate.plusDays(MAX_AVAILABILITY_DAYS - 1));
+    }
+
+    /**
+     * Araç x gün müsaitlik matrisi
+     * Tüm aralık tek bir sorguyla okunur; her araç-gün için boş slotlar bitmask olarak döner.
+     * Geçmiş günlerde hiçbir slot boş sayılmaz.
+     */
+    @Transactional(readOnly = true)
+    public AvailabilityMatrix getAvailabilityMatrix(Collection<Long> vehicleIds,
+            LocalDate startDate, LocalDate endDate) {
+        int dayCount = (int) (endDate.toEpochDay() - startDate.toEpochDay()) + 1;
+        int allFree = (1 << TIME_SLOTS.size()) - 1;
+        LocalDate today = LocalDate.now();
+
+        Map<Long, int[]> vehicles = new LinkedHashMap<>();
+        for (Long vehicleId : vehicleIds) {
+            int[] days = new int[dayCount];
+            for (int day = 0; day < dayCount; day++) {
+                days[day] = startDate.plusDays(day).isBefore(today) ? 0 : allFree;
+            }
+            vehicles.put(vehicleId, days);
+        }
+
+        if (!vehicles.isEmpty()) {
+            for (AppointmentRepository.BookedSlot slot : appointmentRepository
+                    .findBookedSlotsBetween(vehicles.keySet(), startDate, endDate)) {
+                int index = TIME_SLOTS.indexOf(slot.getAppointmentTime());
+                if (index >= 0) {
+                    int day = (int) (slot.getAppointmentDate().toEpochDay() - startDate.toEpochDay());
+                    vehicles.get(slot.getVehicleId())[day] &= ~(1 << index);
+                }
+            }
+        }
+        return new AvailabilityMatrix(startDate, endDate, TIME_SLOTS, vehicles);
+    }
+
+    private static List<LocalTime> buildTimeSlots() {
+        List<LocalTime> slots = new ArrayList<>();
+        for (int hour = OPENING_TIME.getHour(); hour <= CLOSING_TIME.getHour(); hour++) {
+            slots.add(LocalTime.of(hour, 0));
+        }
+        return List.copyOf(slots);
+    }
+
     /**
      * Randevu iptal et
      */
     public Appointment cancelAppointment(Long id) {
-        Appointment appointment = getAppointmentById(id);
-        appointment.setStatus(AppointmentStatus.CANCELLED);
-        return appointmentRepository.save(appointment);
+        return changeStatus(id, AppointmentStatus.CANCELLED);
     }
 
     /**
      * Randevu onayla
      */
     public Appointment confirmAppointment(Long id) {
+        return changeStatus(id, AppointmentStatus.CONFIRMED);
+    }
+
+    private Appointment changeStatus(Long id, AppointmentStatus status) {
         Appointment appointment = getAppointmentById(id);
-        appointment.setStatus(AppointmentStatus.CONFIRMED);
-        return appointmentRepository.save(appointment);
+        AppointmentStatus previous = appointment.getStatus();
+        appointment.setStatus(status);
+        Appointment saved = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(new AppointmentChangedEvent(
+                appointment.getVehicle().getId(), appointment.getAppointmentDate(), previous, status));
+        return saved;
     }
 
     /**
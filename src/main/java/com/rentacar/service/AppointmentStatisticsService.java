@@ -0,0 +1,171 @@
+package com.rentacar.service;
+
+import com.rentacar.dto.DashboardStatistics;
+import com.rentacar.event.AppointmentChangedEvent;
+import com.rentacar.model.AppointmentStatus;
+import com.rentacar.repository.AppointmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Randevu İstatistik Service
+ * Dashboard sayıları bellekte tutulur:
+ * - Açılışta tek bir GROUP BY sorgusuyla doldurulur
+ * - Sonrasında AppointmentChangedEvent ile (commit sonrası) artımlı güncellenir
+ * - AppointmentService dışından yapılan yazmalar (JDBC, başka uygulama düğümü) olay üretmez;
+ *   sayılar app.statistics.reconcile-interval aralığıyla veritabanından yeniden yüklenir.
+ *   Sapma en fazla bir aralık sürer.
+ * - Yükleme sorgusu sürerken gelen olaylar kaydedilir ve yeni kopyaya da uygulanır
+ */
+@Service
+public class AppointmentStatisticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentStatisticsService.class);
+
+    private final AppointmentRepository appointmentRepository;
+
+    // Yeniden yükleme yeni bir kopya kurup tek adımda değiştirir; okuyucular yarım veri görmez
+    private volatile Counts counts = new Counts();
+
+    // Olay uygulama ile kopya değişimini sıralar
+    private final Object eventLock = new Object();
+
+    // Yükleme sorgusu sürerken gelen olaylar; yükleme yokken null (eventLock altında)
+    private List<AppointmentChangedEvent> eventsDuringLoad;
+
+    public AppointmentStatisticsService(AppointmentRepository appointmentRepository) {
+        this.appointmentRepository = appointmentRepository;
+    }
+
+    /**
+     * Sayıları veritabanından yükle (tek GROUP BY sorgusu)
+     * Açılışta ve sonrasında periyodik olarak çalışır.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.statistics.reconcile-interval:PT5M}",
+            initialDelayString = "${app.statistics.reconcile-interval:PT5M}")
+    public synchronized void load() {
+        // Kayıt sorgudan hemen önce başlar: öncesinde işlenen olayların commit'i sorguda görünür
+        synchronized (eventLock) {
+            eventsDuringLoad = new ArrayList<>();
+        }
+        try {
+            Counts loaded = new Counts();
+            List<AppointmentRepository.StatusCount> rows = appointmentRepository.countByVehicleDateAndStatus();
+            for (AppointmentRepository.StatusCount row : rows) {
+                loaded.add(row.getVehicleId(), row.getAppointmentDate(), row.getStatus(), row.getTotal());
+            }
+            synchronized (eventLock) {
+                eventsDuringLoad.forEach(event -> apply(loaded, event));
+                counts = loaded;
+            }
+            log.debug("Randevu istatistikleri yüklendi: {} grup", rows.size());
+        } finally {
+            synchronized (eventLock) {
+                eventsDuringLoad = null;
+            }
+        }
+    }
+
+    /**
+     * Randevu değişikliğini sayılara yansıt (commit sonrası)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        if (event.previousStatus() == event.status()) {
+            return;
+        }
+        synchronized (eventLock) {
+            apply(counts, event);
+            if (eventsDuringLoad != null) {
+                eventsDuringLoad.add(event);
+            }
+        }
+    }
+
+    private static void apply(Counts target, AppointmentChangedEvent event) {
+        if (event.previousStatus() != null) {
+            target.add(event.vehicleId(), event.appointmentDate(), event.previousStatus(), -1);
+        }
+        target.add(event.vehicleId(), event.appointmentDate(), event.status(), 1);
+    }
+
+    /**
+     * Güncel dashboard istatistikleri
+     */
+    public DashboardStatistics getDashboardStatistics() {
+        Counts current = counts;
+        Map<AppointmentStatus, Long> countsByStatus = new EnumMap<>(AppointmentStatus.class);
+        current.statusTotals.forEach((status, total) -> countsByStatus.put(status, total.get()));
+
+        LocalDate now = LocalDate.now();
+        AtomicLong today = current.dailyTotals.get(now);
+
+        Map<Long, Long> upcomingByVehicle = new LinkedHashMap<>();
+        current.activeByVehicle.forEach((vehicleId, days) -> {
+            long upcoming = days.tailMap(now, true).values().stream().mapToLong(AtomicLong::get).sum();
+            if (upcoming > 0) {
+                upcomingByVehicle.put(vehicleId, upcoming);
+            }
+        });
+
+        return new DashboardStatistics(countsByStatus, today == null ? 0 : today.get(), upcomingByVehicle);
+    }
+
+    /**
+     * Duruma göre güncel randevu sayısı
+     */
+    public long getCount(AppointmentStatus status) {
+        return counts.statusTotals.get(status).get();
+    }
+
+    private static boolean isActive(AppointmentStatus status) {
+        return status == AppointmentStatus.PENDING || status == AppointmentStatus.CONFIRMED;
+    }
+
+    /**
+     * Sayı tabloları
+     */
+    private static final class Counts {
+
+        private final Map<AppointmentStatus, AtomicLong> statusTotals = new EnumMap<>(AppointmentStatus.class);
+        private final ConcurrentMap<LocalDate, AtomicLong> dailyTotals = new ConcurrentHashMap<>();
+
+        // Araç -> gün -> aktif (beklemede / onaylı) randevu sayısı
+        private final ConcurrentMap<Long, NavigableMap<LocalDate, AtomicLong>> activeByVehicle =
+                new ConcurrentHashMap<>();
+
+        Counts() {
+            for (AppointmentStatus status : AppointmentStatus.values()) {
+                statusTotals.put(status, new AtomicLong());
+            }
+        }
+
+        void add(Long vehicleId, LocalDate date, AppointmentStatus status, long delta) {
+            statusTotals.get(status).addAndGet(delta);
+            dailyTotals.computeIfAbsent(date, d -> new AtomicLong()).addAndGet(delta);
+            if (isActive(status)) {
+                activeByVehicle.computeIfAbsent(vehicleId, id -> new ConcurrentSkipListMap<>())
+                        .computeIfAbsent(date, d -> new AtomicLong())
+                        .addAndGet(delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.rentacar.service;
+
+import com.rentacar.exception.AppointmentConflictException;
+import com.rentacar.exception.InvalidTimeException;
+import com.rentacar.exception.PastDateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Randevu alma metrikleri (Micrometer)
+ * /actuator/prometheus üzerinden okunur:
+ * - booking_create_seconds{outcome}        toplam süre, commit dahil (histogram; controller'da,
+ *                                          transaction dışından ölçülür)
+ * - booking_stage_seconds{stage}           aşama süreleri (histogram)
+ * - booking_rejections_total{reason}       reddedilen istekler, hata tipine göre
+ */
+@Component
+public class BookingMetrics {
+
+    /**
+     * createAppointment aşamaları
+     */
+    public enum Stage {
+        VALIDATE_DATE("validateDate"),
+        VALIDATE_TIME("validateTime"),
+        VALIDATE_NO_CONFLICT("validateNoConflict"),
+        SAVE("save");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    // Ayrı sayılan red nedenleri; diğer hatalar outcome=error olarak yalnızca timer'a düşer
+    private static final List<Class<? extends RuntimeException>> REJECTIONS = List.of(
+            PastDateException.class, InvalidTimeException.class, AppointmentConflictException.class);
+
+    // outcome etiketi: success, error ya da red nedeni
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+
+    private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<String, Timer> outcomeTimers = new LinkedHashMap<>();
+    private final Map<Class<? extends RuntimeException>, Counter> rejectionCounters = new LinkedHashMap<>();
+
+    public BookingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("booking.stage")
+                    .description("Randevu alma aşama süresi")
+                    .tag("stage", stage.tag)
+                    .publishPercentileHistogram()
+                    .publishPercentiles(PERCENTILES)
+                    .register(registry));
+        }
+        List<String> outcomes = new ArrayList<>(List.of(SUCCESS, ERROR));
+        REJECTIONS.forEach(type -> outcomes.add(type.getSimpleName()));
+        for (String outcome : outcomes) {
+            outcomeTimers.put(outcome, Timer.builder("booking.create")
+                    .description("Randevu alma toplam süresi")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .publishPercentiles(PERCENTILES)
+                    .register(registry));
+        }
+        for (Class<? extends RuntimeException> type : REJECTIONS) {
+            rejectionCounters.put(type, Counter.builder("booking.rejections")
+                    .description("Reddedilen randevu istekleri")
+                    .tag("reason", type.getSimpleName())
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Randevu alma işlemini ölç; sonuç outcome etiketiyle, red nedeni sayaçla kaydedilir
+     * Commit süresinin dahil olması için transaction dışından çağrılmalıdır.
+     */
+    public <T> T recordBooking(Supplier<T> booking) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = SUCCESS;
+        try {
+            return booking.get();
+        } catch (RuntimeException e) {
+            outcome = ERROR;
+            for (Map.Entry<Class<? extends RuntimeException>, Counter> rejection : rejectionCounters.entrySet()) {
+                if (rejection.getKey().isInstance(e)) {
+                    rejection.getValue().increment();
+                    outcome = rejection.getKey().getSimpleName();
+                    break;
+                }
+            }
+            throw e;
+        } finally {
+            sample.stop(outcomeTimers.get(outcome));
+        }
+    }
+
+    /**
+     * Tek bir aşamayı ölç
+     */
+    public <T> T record(Stage stage, Supplier<T> action) {
+        return stageTimers.get(stage).record(action);
+    }
+
+    public void record(Stage stage, Runnable action) {
+        stageTimers.get(stage).record(action);
+    }
+}
@@ -0,0 +1,56 @@
+package com.rentacar.service;
+
+import com.rentacar.event.VehicleChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Araç kataloğu sürüm damgası
+ * Her araç yazmasında (commit sonrası) artar; araç sayfalarının ETag / Last-Modified
+ * değerleri buradan üretilir, böylece 304 kararı veritabanına gitmeden verilir.
+ *
+ * Başlangıç değeri açılış zamanıdır: yeniden başlatma eski ETag'leri geçersiz kılar.
+ */
+@Component
+public class CatalogVersion {
+
+    private volatile Stamp stamp = new Stamp(System.currentTimeMillis(), now());
+
+    /**
+     * Araç değişikliğinde sürümü artır (commit sonrası)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        bump();
+    }
+
+    public synchronized void bump() {
+        Stamp current = stamp;
+        stamp = new Stamp(current.version() + 1, now());
+    }
+
+    /**
+     * Güncel ETag (tırnaklı), ör. "v1716800000001"
+     */
+    public String etag() {
+        return "\"v" + stamp.version() + "\"";
+    }
+
+    /**
+     * Kataloğun son değiştiği an (HTTP tarih hassasiyeti: saniye)
+     */
+    public Instant lastModified() {
+        return stamp.lastModified();
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    // Sürüm ve zaman birlikte okunur
+    private record Stamp(long version, Instant lastModified) {
+    }
+}
@@ -0,0 +1,269 @@
+package com.rentacar.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Araç fotoğrafı varyantları
+ * /images altındaki kaynak fotoğraftan genişlik başına küçültülmüş, yeniden
+ * sıkıştırılmış (progressive JPEG) kopyalar üretir.
+ *
+ * - Varyant ilk istendiğinde üretilir ve diske yazılır (app.images.cache-dir)
+ * - URL kaynağın içerik özetini taşır: /images/v/{ad}-{genişlik}-{özet}.jpg
+ *   Kaynak değişirse URL de değişir; yanıtlar "immutable" önbelleklenebilir
+ * - ImageIO'nun okuyamadığı biçimler (ör. webp), çözülemeyen dosyalar ve dış URL'ler
+ *   olduğu gibi kullanılır
+ */
+@Service("vehicleImages")
+public class ImageVariantService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    // srcset genişlikleri; src için varsayılan DEFAULT_WIDTH
+    public static final int[] WIDTHS = { 320, 640, 960 };
+    public static final int DEFAULT_WIDTH = 640;
+
+    public static final String VARIANT_PATH = "/images/v/";
+
+    private static final String SOURCE_PREFIX = "/images/";
+    private static final float JPEG_QUALITY = 0.78f;
+
+    private static final Pattern VARIANT_NAME = Pattern.compile("(.+)-(\\d+)-([0-9a-f]{12})\\.jpg");
+
+    private final ResourceLoader resourceLoader;
+    private final Path cacheDir;
+
+    private final Set<String> readableSuffixes = Set.of(ImageIO.getReaderFileSuffixes());
+
+    // kaynak dosya adı -> içerik özeti (okunamıyorsa boş)
+    private final ConcurrentMap<String, Optional<String>> sourceHashes = new ConcurrentHashMap<>();
+
+    // Aynı varyantı aynı anda iki kez üretmemek için
+    private final ConcurrentMap<String, Object> generationLocks = new ConcurrentHashMap<>();
+
+    public ImageVariantService(ResourceLoader resourceLoader,
+            @Value("${app.images.cache-dir:${java.io.tmpdir}/rentacar-images}") Path cacheDir) {
+        this.resourceLoader = resourceLoader;
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * img src değeri: varsayılan genişlikteki varyant ya da orijinal URL
+     */
+    public String src(String imageUrl) {
+        return variantUrl(imageUrl, DEFAULT_WIDTH).orElse(imageUrl);
+    }
+
+    /**
+     * img srcset değeri; varyant üretilemiyorsa null (öznitelik yazılmaz)
+     */
+    public String srcset(String imageUrl) {
+        if (variantUrl(imageUrl, DEFAULT_WIDTH).isEmpty()) {
+            return null;
+        }
+        return IntStream.of(WIDTHS)
+                .mapToObj(width -> variantUrl(imageUrl, width).orElseThrow() + " " + width + "w")
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Belirli genişlikteki varyantın içerik özetli URL'i
+     */
+    public Optional<String> variantUrl(String imageUrl, int width) {
+        String source = sourceName(imageUrl);
+        if (source == null) {
+            return Optional.empty();
+        }
+        return hashOf(source).map(hash -> VARIANT_PATH + baseName(source) + "-" + width + "-" + hash + ".jpg");
+    }
+
+    /**
+     * Varyant dosyası (gerekirse üretilir)
+     *
+     * @param variantName URL'in son parçası, ör. bmwM3-640-0123456789ab.jpg
+     * @return dosya; ad geçersizse, kaynak yoksa ya da özet eskiyse boş
+     */
+    public Optional<Path> variant(String variantName) {
+        Matcher matcher = VARIANT_NAME.matcher(variantName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String base = matcher.group(1);
+        int width = Integer.parseInt(matcher.group(2));
+        String hash = matcher.group(3);
+        if (IntStream.of(WIDTHS).noneMatch(w -> w == width)) {
+            return Optional.empty();
+        }
+        String source = findSource(base);
+        if (source == null || !hashOf(source).map(hash::equals).orElse(false)) {
+            return Optional.empty();
+        }
+
+        Path target = cacheDir.resolve(variantName);
+        if (Files.exists(target)) {
+            return Optional.of(target);
+        }
+        synchronized (generationLocks.computeIfAbsent(variantName, k -> new Object())) {
+            try {
+                if (!Files.exists(target) && !generate(source, width, target)) {
+                    // Çözülemeyen kaynak: sayfalar bundan sonra orijinal URL'i kullanır
+                    sourceHashes.put(source, Optional.empty());
+                    return Optional.empty();
+                }
+                return Optional.of(target);
+            } finally {
+                generationLocks.remove(variantName);
+            }
+        }
+    }
+
+    // Kaynak ImageIO ile çözülemezse (bozuk ya da uzantısıyla uyuşmayan dosya) false
+    private boolean generate(String source, int width, Path target) {
+        try (InputStream in = sourceResource(source).getInputStream()) {
+            BufferedImage image = ImageIO.read(in);
+            if (image == null) {
+                log.warn("Görsel çözülemedi, varyant üretilmeyecek: {}", source);
+                return false;
+            }
+            BufferedImage resized = resize(image, Math.min(width, image.getWidth()));
+
+            Files.createDirectories(cacheDir);
+            Path temp = Files.createTempFile(cacheDir, "variant", ".tmp");
+            writeJpeg(resized, temp);
+            // Yarım yazılmış dosya servis edilmesin
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Görsel varyantı üretildi: {} ({} bayt)", target.getFileName(), Files.size(target));
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Görsel varyantı üretilemedi: " + source, e);
+        }
+    }
+
+    // Yarıya bölerek küçültme: tek adımlı bilinear ölçeklemeden daha az bozulma
+    private static BufferedImage resize(BufferedImage image, int width) {
+        BufferedImage current = toRgb(image);
+        int targetHeight = Math.max(1, Math.round((float) image.getHeight() * width / image.getWidth()));
+        while (current.getWidth() / 2 >= width) {
+            current = scale(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return current.getWidth() == width ? current : scale(current, width, targetHeight);
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(image, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    // JPEG alfa kanalı taşımaz: saydam alanlar beyaz olur
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        g.drawImage(image, 0, 0, Color.WHITE, null);
+        g.dispose();
+        return rgb;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+        param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private Optional<String> hashOf(String source) {
+        return sourceHashes.computeIfAbsent(source, this::computeHash);
+    }
+
+    private Optional<String> computeHash(String source) {
+        Resource resource = sourceResource(source);
+        if (!resource.exists()) {
+            return Optional.empty();
+        }
+        try (InputStream in = resource.getInputStream()) {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(in.readAllBytes());
+            return Optional.of(HexFormat.of().formatHex(digest, 0, 6));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.warn("Görsel özeti hesaplanamadı: {}", source, e);
+            return Optional.empty();
+        }
+    }
+
+    // "/images/bmwM3.jpg" -> "bmwM3.jpg"; alt dizin, dış URL ve okunamayan biçimler null
+    private String sourceName(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(SOURCE_PREFIX)) {
+            return null;
+        }
+        String name = imageUrl.substring(SOURCE_PREFIX.length());
+        String extension = StringUtils.getFilenameExtension(name);
+        if (name.contains("/") || extension == null || !readableSuffixes.contains(extension.toLowerCase())) {
+            return null;
+        }
+        return name;
+    }
+
+    // Varyant adındaki taban addan kaynak dosyayı bul
+    private String findSource(String base) {
+        for (String suffix : readableSuffixes) {
+            String candidate = base + "." + suffix;
+            if (sourceResource(candidate).exists()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private Resource sourceResource(String name) {
+        return resourceLoader.getResource("classpath:/static" + SOURCE_PREFIX + name);
+    }
+
+    private static String baseName(String name) {
+        return StringUtils.stripFilenameExtension(name);
+    }
+}
@@ -0,0 +1,259 @@
+package com.rentacar.service;
+
+import com.rentacar.repository.AppointmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Slot doluluk indeksi
+ * Her araç ve gün için tek bir bitset tutar (bit = günün dakikası)
+ *
+ * - Uygulama açılışında bugünden itibaren dolu slotlarla doldurulur
+ * - Randevu oluşturulunca anında işaretlenir, transaction geri alınırsa işaret kaldırılır
+ * - Yazmalar araç bazlı kilit şeritleriyle (lock striping) sıralanır;
+ *   {@link #tryReserve} aynı slot için yalnızca bir yazara true döner
+ * - Onay / iptal slotu boşaltmaz: uk_vehicle_date_time tüm durumları kapsar
+ * - Yeniden yükleme tüm şeritleri tutarak yeni bir kopya kurar ve tek adımda değiştirir;
+ *   o sırada commit edilmemiş rezervasyonlar yeni kopyaya taşınır
+ *
+ * Kapsam dışındaki sorgular (yükleme tarihinden önceki günler, saniyeli saatler)
+ * için {@link #covers} false döner ve çağıran veritabanına gider.
+ */
+@Component
+public class SlotOccupancyIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotOccupancyIndex.class);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int WORDS_PER_DAY = (MINUTES_PER_DAY + 63) / 64;
+    private static final int LOCK_STRIPES = 64;
+
+    private final AppointmentRepository appointmentRepository;
+
+    // Okuma kilitsiz; yazma araç şeridinin, değiştirme tüm şeritlerin kilidi altında
+    private volatile State state = new State(null);
+
+    private final Object[] stripes = new Object[LOCK_STRIPES];
+
+    // Transaction'ı henüz bitmemiş rezervasyonlar (yeniden yüklemede kaybolmasın)
+    private final Set<Slot> inFlight = ConcurrentHashMap.newKeySet();
+
+    public SlotOccupancyIndex(AppointmentRepository appointmentRepository) {
+        this.appointmentRepository = appointmentRepository;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /**
+     * İndeksi veritabanından doldur
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // Sorgu da kilit altında: sorgudan sonra commit eden rezervasyon inFlight'tan düşemez
+        underAllStripes(0, () -> {
+            LocalDate today = LocalDate.now();
+            List<AppointmentRepository.BookedSlot> slots = appointmentRepository.findBookedSlotsFrom(today);
+            State loaded = new State(today);
+            for (AppointmentRepository.BookedSlot slot : slots) {
+                loaded.set(slot.getVehicleId(), slot.getAppointmentDate(), slot.getAppointmentTime());
+            }
+            for (Slot slot : inFlight) {
+                loaded.set(slot.vehicleId(), slot.date(), slot.time());
+            }
+            state = loaded;
+            log.info("Slot indeksi yüklendi: {} dolu slot, {} araç-gün", slots.size(), loaded.days.size());
+        });
+    }
+
+    /**
+     * Bu araç-gün-saat indeksten cevaplanabilir mi?
+     */
+    public boolean covers(Long vehicleId, LocalDate date, LocalTime time) {
+        return covers(vehicleId, date) && isWholeMinute(time);
+    }
+
+    /**
+     * Bu araç-günün tüm dolu saatleri indeksten cevaplanabilir mi?
+     */
+    public boolean covers(Long vehicleId, LocalDate date) {
+        State current = state;
+        return current.coveredFrom != null && !date.isBefore(current.coveredFrom)
+                && !current.irregularDays.contains(new SlotKey(vehicleId, date));
+    }
+
+    /**
+     * Slot dolu mu?
+     */
+    public boolean isOccupied(Long vehicleId, LocalDate date, LocalTime time) {
+        long[] words = state.days.get(new SlotKey(vehicleId, date));
+        if (words == null) {
+            return false;
+        }
+        int bit = minuteOfDay(time);
+        return (words[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Araç-gün için dolu saatleri sıralı getir
+     */
+    public List<LocalTime> occupiedTimes(Long vehicleId, LocalDate date) {
+        long[] words = state.days.get(new SlotKey(vehicleId, date));
+        List<LocalTime> times = new ArrayList<>();
+        if (words == null) {
+            return times;
+        }
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                int bit = (w << 6) + Long.numberOfTrailingZeros(word);
+                times.add(LocalTime.of(bit / 60, bit % 60));
+                word &= word - 1;
+            }
+        }
+        return times;
+    }
+
+    /**
+     * Slotu dolu işaretle
+     * Aktif transaction geri alınırsa işaret otomatik kaldırılır.
+     */
+    public void markOccupied(Long vehicleId, LocalDate date, LocalTime time) {
+        synchronized (stripeFor(vehicleId)) {
+            state.set(vehicleId, date, time);
+            releaseOnRollback(vehicleId, date, time);
+        }
+    }
+
+    /**
+     * Slotu atomik olarak rezerve et (kontrol + işaretleme tek adım)
+     * Aktif transaction geri alınırsa rezervasyon otomatik kaldırılır.
+     *
+     * @return slot boştu ve bu çağrı rezerve ettiyse true, zaten doluysa false
+     */
+    public boolean tryReserve(Long vehicleId, LocalDate date, LocalTime time) {
+        synchronized (stripeFor(vehicleId)) {
+            if (isOccupied(vehicleId, date, time)) {
+                return false;
+            }
+            state.set(vehicleId, date, time);
+            releaseOnRollback(vehicleId, date, time);
+        }
+        return true;
+    }
+
+    // Şerit kilidi altında çağrılır
+    private void releaseOnRollback(Long vehicleId, LocalDate date, LocalTime time) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Slot slot = new Slot(vehicleId, date, time);
+            inFlight.add(slot);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    // Yeniden yükleme sürerken bekler; böylece yükleme ya satırı ya inFlight'ı görür
+                    synchronized (stripeFor(vehicleId)) {
+                        inFlight.remove(slot);
+                        if (status != STATUS_COMMITTED) {
+                            state.clear(vehicleId, date, time);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    // Tüm şerit kilitlerini sırayla alıp işlemi çalıştır
+    private void underAllStripes(int stripe, Runnable action) {
+        if (stripe == LOCK_STRIPES) {
+            action.run();
+            return;
+        }
+        synchronized (stripes[stripe]) {
+            underAllStripes(stripe + 1, action);
+        }
+    }
+
+    private Object stripeFor(Long vehicleId) {
+        return stripes[Math.floorMod(vehicleId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static boolean isWholeMinute(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private record SlotKey(Long vehicleId, LocalDate date) {
+    }
+
+    private record Slot(Long vehicleId, LocalDate date, LocalTime time) {
+    }
+
+    /**
+     * Bir yüklemenin verisi
+     */
+    private static final class State {
+
+        // Değerler copy-on-write: okuma kilitsiz, yazma araç şeridinin kilidi altında
+        private final ConcurrentMap<SlotKey, long[]> days = new ConcurrentHashMap<>();
+
+        // Dakikaya oturmayan bir saat içeren araç-günleri indekslenemez
+        private final Set<SlotKey> irregularDays = ConcurrentHashMap.newKeySet();
+
+        // Yükleme tarihi; null ise hiçbir şey kapsanmaz
+        private final LocalDate coveredFrom;
+
+        State(LocalDate coveredFrom) {
+            this.coveredFrom = coveredFrom;
+        }
+
+        void set(Long vehicleId, LocalDate date, LocalTime time) {
+            SlotKey key = new SlotKey(vehicleId, date);
+            if (!isWholeMinute(time)) {
+                irregularDays.add(key);
+                return;
+            }
+            int bit = minuteOfDay(time);
+            long[] words = days.get(key);
+            long[] copy = words == null ? new long[WORDS_PER_DAY] : words.clone();
+            copy[bit >>> 6] |= 1L << bit;
+            days.put(key, copy);
+        }
+
+        void clear(Long vehicleId, LocalDate date, LocalTime time) {
+            if (!isWholeMinute(time)) {
+                return;
+            }
+            SlotKey key = new SlotKey(vehicleId, date);
+            long[] words = days.get(key);
+            if (words == null) {
+                return;
+            }
+            int bit = minuteOfDay(time);
+            long[] copy = words.clone();
+            copy[bit >>> 6] &= ~(1L << bit);
+            for (long word : copy) {
+                if (word != 0) {
+                    days.put(key, copy);
+                    return;
+                }
+            }
+            days.remove(key);
+        }
+    }
+}
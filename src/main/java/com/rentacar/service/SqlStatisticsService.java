@@ -0,0 +1,65 @@
+package com.rentacar.service;
+
+import com.rentacar.dto.SqlStatistics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * SQL İstatistik Service
+ * show-sql yerine Hibernate istatistiklerinden sorgu sayıları ve süreleri okunur
+ * (spring.jpa.properties.hibernate.generate_statistics=true, bkz. prod profili).
+ */
+@Service
+public class SqlStatisticsService {
+
+    private final Statistics statistics;
+
+    public SqlStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * En yavaş (ortalama süreye göre) ve en sık çalışan ilk N sorgu
+     */
+    public SqlStatistics getStatistics(int limit) {
+        if (!statistics.isStatisticsEnabled()) {
+            return new SqlStatistics(false, 0, 0, 0, 0, List.of(), List.of());
+        }
+        List<SqlStatistics.QueryStat> queries = Stream.of(statistics.getQueries())
+                .map(this::toQueryStat)
+                .filter(query -> query.executionCount() > 0)
+                .toList();
+        return new SqlStatistics(true,
+                statistics.getQueryExecutionCount(),
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(),
+                statistics.getEntityInsertCount(),
+                top(queries, Comparator.comparingLong(SqlStatistics.QueryStat::averageTime), limit),
+                top(queries, Comparator.comparingLong(SqlStatistics.QueryStat::executionCount), limit));
+    }
+
+    /**
+     * Sayaçları sıfırla (ör. bir ölçümden önce)
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    private SqlStatistics.QueryStat toQueryStat(String query) {
+        QueryStatistics stats = statistics.getQueryStatistics(query);
+        return new SqlStatistics.QueryStat(query, stats.getExecutionCount(), stats.getExecutionAvgTime(),
+                stats.getExecutionMaxTime(), stats.getExecutionTotalTime(), stats.getExecutionRowCount());
+    }
+
+    private static List<SqlStatistics.QueryStat> top(List<SqlStatistics.QueryStat> queries,
+            Comparator<SqlStatistics.QueryStat> order, int limit) {
+        return queries.stream().sorted(order.reversed()).limit(limit).toList();
+    }
+}
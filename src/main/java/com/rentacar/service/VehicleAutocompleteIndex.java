@@ -0,0 +1,163 @@
+package com.rentacar.service;
+
+import com.rentacar.model.Vehicle;
+import com.rentacar.repository.VehicleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Araç otomatik tamamlama indeksi (önek ağacı / trie)
+ * Terimler: marka, model ve tam ad (Vehicle#getFullName); ağırlık = o terime sahip araç sayısı
+ *
+ * - Her düğüm alt ağacındaki en iyi {@link #MAX_SUGGESTIONS} öneriyi hazır tutar;
+ *   sorgu önek uzunluğu kadar adım + liste kopyasıdır
+ * - Yazmada yalnızca değişen terimin yolundaki düğümlerin listesi yeniden hesaplanır
+ * - Yükleme ve güncelleme {@link AbstractVehicleIndex} üzerinden
+ */
+@Component
+public class VehicleAutocompleteIndex extends AbstractVehicleIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(VehicleAutocompleteIndex.class);
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingInt(Suggestion::count).reversed()
+            .thenComparing(Suggestion::text, String.CASE_INSENSITIVE_ORDER);
+
+    private Node root = new Node();
+
+    // araç ID -> indekslenen terimler (güncelleme / silmede geri almak için)
+    private final Map<Long, Set<String>> termsByVehicle = new HashMap<>();
+
+    public VehicleAutocompleteIndex(VehicleRepository vehicleRepository) {
+        super(vehicleRepository);
+    }
+
+    /**
+     * Önekle başlayan en fazla limit kadar öneri (çok araçlı terimler önce)
+     */
+    public List<Suggestion> complete(String prefix, int limit) {
+        String key = VehicleSearchIndex.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        return read(() -> {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return Collections.<Suggestion>emptyList();
+            }
+            return List.copyOf(node.top.subList(0, Math.min(limit, node.top.size())));
+        });
+    }
+
+    @Override
+    protected void reset() {
+        root = new Node();
+        termsByVehicle.clear();
+    }
+
+    @Override
+    protected void loaded(int vehicleCount) {
+        log.info("Otomatik tamamlama indeksi yüklendi: {} araç", vehicleCount);
+    }
+
+    @Override
+    protected void add(Vehicle vehicle) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(vehicle.getBrand());
+        terms.add(vehicle.getModel());
+        terms.add(vehicle.getFullName());
+        termsByVehicle.put(vehicle.getId(), terms);
+        for (String term : terms) {
+            update(term, 1);
+        }
+    }
+
+    @Override
+    protected void remove(Long vehicleId) {
+        Set<String> terms = termsByVehicle.remove(vehicleId);
+        if (terms != null) {
+            for (String term : terms) {
+                update(term, -1);
+            }
+        }
+    }
+
+    private void update(String term, int delta) {
+        String key = VehicleSearchIndex.normalize(term);
+        if (key.isEmpty()) {
+            return;
+        }
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            path.add(node);
+        }
+
+        node.count += delta;
+        if (node.count <= 0) {
+            node.count = 0;
+            node.text = null;
+        } else if (node.text == null) {
+            // İlk görülen yazım gösterilir
+            node.text = term;
+        }
+
+        // Yapraktan köke: boş dalları buda, hazır listeleri yenile
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node current = path.get(i);
+            if (i > 0 && current.text == null && current.children.isEmpty()) {
+                path.get(i - 1).children.remove(key.charAt(i - 1));
+                continue;
+            }
+            current.refreshTop();
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String text;
+        private int count;
+        private List<Suggestion> top = Collections.emptyList();
+
+        // Kendi terimi + çocukların hazır listeleri, ilk MAX_SUGGESTIONS
+        void refreshTop() {
+            List<Suggestion> candidates = new ArrayList<>();
+            if (text != null) {
+                candidates.add(new Suggestion(text, count));
+            }
+            for (Node child : children.values()) {
+                candidates.addAll(child.top);
+            }
+            candidates.sort(RANKING);
+            top = candidates.size() > MAX_SUGGESTIONS
+                    ? List.copyOf(candidates.subList(0, MAX_SUGGESTIONS))
+                    : List.copyOf(candidates);
+        }
+    }
+
+    /**
+     * Tamamlama önerisi
+     *
+     * @param count bu terime sahip araç sayısı
+     */
+    public record Suggestion(String text, int count) {
+    }
+}
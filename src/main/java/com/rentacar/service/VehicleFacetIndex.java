@@ -0,0 +1,224 @@
+package com.rentacar.service;
+
+import com.rentacar.dto.VehicleFilter;
+import com.rentacar.model.Vehicle;
+import com.rentacar.repository.VehicleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Araç facet indeksi
+ * Her araca bir sıra numarası (slot) verilir; her marka, model, yıl ve
+ * müsaitlik değeri için o değere sahip slotların bitset'i tutulur.
+ *
+ * - Filtre: ilgili bitset'lerin kesişimi (yıl aralığı = yıl bitset'lerinin birleşimi)
+ * - Sonuç ID sırasına göre keyset sayfalıdır; yalnızca istenen sayfanın ID'leri döner
+ * - Sayılar: facet'in kendi filtresi hariç kesişim üzerinde tek geçişte sayılır
+ * - Yükleme ve güncelleme {@link AbstractVehicleIndex} üzerinden
+ *
+ * Silinen araçların slotları yeniden kullanılır.
+ */
+@Component
+public class VehicleFacetIndex extends AbstractVehicleIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(VehicleFacetIndex.class);
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    private final BitSet live = new BitSet();
+    private final BitSet available = new BitSet();
+    private final Map<String, BitSet> byBrand = new HashMap<>();
+    private final Map<String, BitSet> byModel = new HashMap<>();
+    private final NavigableMap<Integer, BitSet> byYear = new TreeMap<>();
+
+    public VehicleFacetIndex(VehicleRepository vehicleRepository) {
+        super(vehicleRepository);
+    }
+
+    /**
+     * Filtreye uyan araçların bir sayfası ve facet sayıları
+     *
+     * @param after önceki sayfanın son araç ID'si, ilk sayfa için null
+     * @param limit sayfa boyutu
+     */
+    public Result query(VehicleFilter filter, Long after, int limit) {
+        return read(() -> {
+            BitSet brandMask = filter.brand() == null ? null : byBrand.getOrDefault(filter.brand(), EMPTY);
+            BitSet modelMask = filter.model() == null ? null : byModel.getOrDefault(filter.model(), EMPTY);
+            BitSet yearMask = yearMask(filter.yearFrom(), filter.yearTo());
+            BitSet availabilityMask = availabilityMask(filter.available());
+
+            BitSet matching = intersect(brandMask, modelMask, yearMask, availabilityMask);
+
+            // Slot sırası ID sırası değil: imleçten büyük en küçük limit + 1 ID sınırlı bir yığında tutulur
+            long lowerBound = after == null ? Long.MIN_VALUE : after;
+            PriorityQueue<Long> smallest = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+            for (int slot = matching.nextSetBit(0); slot >= 0; slot = matching.nextSetBit(slot + 1)) {
+                Long id = entries.get(slot).id();
+                if (id > lowerBound && (smallest.size() <= limit || id < smallest.peek())) {
+                    smallest.add(id);
+                    if (smallest.size() > limit + 1) {
+                        smallest.poll();
+                    }
+                }
+            }
+            List<Long> ids = new ArrayList<>(smallest);
+            ids.sort(null);
+            Long nextCursor = null;
+            if (ids.size() > limit) {
+                ids = ids.subList(0, limit);
+                nextCursor = ids.get(limit - 1);
+            }
+
+            Map<String, Integer> brandCounts = count(intersect(null, modelMask, yearMask, availabilityMask),
+                    Entry::brand);
+            Map<String, Integer> modelCounts = count(intersect(brandMask, null, yearMask, availabilityMask),
+                    Entry::model);
+            Map<Integer, Integer> yearCounts = count(intersect(brandMask, modelMask, null, availabilityMask),
+                    Entry::year);
+
+            BitSet availabilityBase = intersect(brandMask, modelMask, yearMask, null);
+            int total = availabilityBase.cardinality();
+            availabilityBase.and(available);
+            int availableCount = availabilityBase.cardinality();
+
+            return new Result(ids, nextCursor, matching.cardinality(), brandCounts, modelCounts, yearCounts,
+                    availableCount, total - availableCount);
+        });
+    }
+
+    private BitSet intersect(BitSet... masks) {
+        BitSet result = (BitSet) live.clone();
+        for (BitSet mask : masks) {
+            if (mask != null) {
+                result.and(mask);
+            }
+        }
+        return result;
+    }
+
+    private BitSet yearMask(Integer from, Integer to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        int lower = from == null ? Integer.MIN_VALUE : from;
+        int upper = to == null ? Integer.MAX_VALUE : to;
+        BitSet mask = new BitSet();
+        if (lower <= upper) {
+            byYear.subMap(lower, true, upper, true).values().forEach(mask::or);
+        }
+        return mask;
+    }
+
+    private BitSet availabilityMask(Boolean wanted) {
+        if (wanted == null) {
+            return null;
+        }
+        if (wanted) {
+            return available;
+        }
+        BitSet mask = (BitSet) live.clone();
+        mask.andNot(available);
+        return mask;
+    }
+
+    // Sıralı (TreeMap) değer -> sayı
+    private <K extends Comparable<K>> Map<K, Integer> count(BitSet slots, Function<Entry, K> facet) {
+        Map<K, Integer> counts = new TreeMap<>();
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            counts.merge(facet.apply(entries.get(slot)), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Override
+    protected void reset() {
+        slotById.clear();
+        entries.clear();
+        freeSlots.clear();
+        live.clear();
+        available.clear();
+        byBrand.clear();
+        byModel.clear();
+        byYear.clear();
+    }
+
+    @Override
+    protected void loaded(int vehicleCount) {
+        log.info("Araç facet indeksi yüklendi: {} araç, {} marka, {} model",
+                vehicleCount, byBrand.size(), byModel.size());
+    }
+
+    @Override
+    protected void add(Vehicle vehicle) {
+        Entry entry = new Entry(vehicle.getId(), vehicle.getBrand(), vehicle.getModel(), vehicle.getYear(),
+                vehicle.isAvailable());
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = entries.size();
+            entries.add(entry);
+        } else {
+            slot = freeSlots.pop();
+            entries.set(slot, entry);
+        }
+        slotById.put(entry.id(), slot);
+        live.set(slot);
+        available.set(slot, entry.available());
+        byBrand.computeIfAbsent(entry.brand(), k -> new BitSet()).set(slot);
+        byModel.computeIfAbsent(entry.model(), k -> new BitSet()).set(slot);
+        byYear.computeIfAbsent(entry.year(), k -> new BitSet()).set(slot);
+    }
+
+    @Override
+    protected void remove(Long vehicleId) {
+        Integer slot = slotById.remove(vehicleId);
+        if (slot == null) {
+            return;
+        }
+        Entry entry = entries.set(slot, null);
+        live.clear(slot);
+        available.clear(slot);
+        clear(byBrand, entry.brand(), slot);
+        clear(byModel, entry.model(), slot);
+        clear(byYear, entry.year(), slot);
+        freeSlots.push(slot);
+    }
+
+    private static <K> void clear(Map<K, BitSet> facet, K value, int slot) {
+        BitSet bits = facet.get(value);
+        bits.clear(slot);
+        if (bits.isEmpty()) {
+            facet.remove(value);
+        }
+    }
+
+    private record Entry(Long id, String brand, String model, Integer year, boolean available) {
+    }
+
+    /**
+     * Sorgu sonucu: sayfadaki araç ID'leri (artan), sonraki sayfa imleci (son sayfada null),
+     * toplam eşleşme ve facet sayıları
+     */
+    public record Result(List<Long> vehicleIds, Long nextCursor, int matchCount,
+            Map<String, Integer> brandCounts, Map<String, Integer> modelCounts, Map<Integer, Integer> yearCounts,
+            int availableCount, int unavailableCount) {
+    }
+}
@@ -0,0 +1,216 @@
+package com.rentacar.service;
+
+import com.rentacar.model.Vehicle;
+import com.rentacar.repository.VehicleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Araç arama indeksi (n-gram ters indeks)
+ * Marka, model, yıl ve açıklama alanlarındaki kelimeler 3-gram'lara bölünür;
+ * her gram onu içeren araç ID'lerine işaret eder.
+ *
+ * - Yükleme ve güncelleme {@link AbstractVehicleIndex} üzerinden
+ * - Sorgu kelimeleri VE ile birleşir; her kelime bir alanın alt dizgisi olmalı
+ * - Sıralama: eşleşen alan ağırlıkları (marka > model / yıl > açıklama), sonra ID
+ *
+ * 3 karakterden kısa sorgu kelimeleri yalnızca kelime başlarıyla eşleşir
+ * (bunun için kelime önekleri ayrıca indekslenir).
+ */
+@Component
+public class VehicleSearchIndex extends AbstractVehicleIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(VehicleSearchIndex.class);
+
+    private static final int GRAM = 3;
+
+    // Alan ağırlıkları: BRAND, MODEL, YEAR, DESCRIPTION
+    private static final int[] FIELD_WEIGHTS = { 8, 4, 4, 1 };
+
+    // gram -> araç ID'leri
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    // araç ID -> normalize edilmiş alanlar
+    private final Map<Long, String[]> documents = new HashMap<>();
+
+    public VehicleSearchIndex(VehicleRepository vehicleRepository) {
+        super(vehicleRepository);
+    }
+
+    /**
+     * Çok kelimeli arama
+     *
+     * @return eşleşen araç ID'leri, en alakalıdan başlayarak
+     */
+    public List<Long> search(String query) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return read(() -> rank(terms));
+    }
+
+    // Okuma kilidi altında çağrılır
+    private List<Long> rank(List<String> terms) {
+        Set<Long> candidates = null;
+        for (String term : terms) {
+            Set<Long> matches = candidatesFor(term);
+            if (candidates == null) {
+                candidates = new HashSet<>(matches);
+            } else {
+                candidates.retainAll(matches);
+            }
+            if (candidates.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        // Gram kesişimi aday üretir; alt dizgi kontrolü ve puan burada
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Long id : candidates) {
+            int score = score(documents.get(id), terms);
+            if (score > 0) {
+                scores.put(id, score);
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>(scores.keySet());
+        ranked.sort(Comparator.comparing((Long id) -> scores.get(id)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        return ranked;
+    }
+
+    private Set<Long> candidatesFor(String term) {
+        Set<Long> result = null;
+        for (String gram : gramsOf(term)) {
+            Set<Long> ids = postings.getOrDefault(gram, Collections.emptySet());
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? Collections.emptySet() : result;
+    }
+
+    // Her kelime en az bir alanda geçmeli; puan = kelime başına en iyi alan ağırlığı
+    private static int score(String[] fields, List<String> terms) {
+        int total = 0;
+        for (String term : terms) {
+            int best = 0;
+            for (int f = 0; f < fields.length; f++) {
+                if (fields[f].contains(term)) {
+                    int weight = FIELD_WEIGHTS[f];
+                    // Kelimenin tamamı eşleşirse ek puan
+                    if (Arrays.asList(fields[f].split(" ")).contains(term)) {
+                        weight *= 2;
+                    }
+                    best = Math.max(best, weight);
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    @Override
+    protected void reset() {
+        postings.clear();
+        documents.clear();
+    }
+
+    @Override
+    protected void loaded(int vehicleCount) {
+        log.info("Araç arama indeksi yüklendi: {} araç, {} gram", vehicleCount, postings.size());
+    }
+
+    @Override
+    protected void add(Vehicle vehicle) {
+        String[] fields = {
+                normalize(vehicle.getBrand()),
+                normalize(vehicle.getModel()),
+                vehicle.getYear() == null ? "" : vehicle.getYear().toString(),
+                normalize(vehicle.getDescription())
+        };
+        documents.put(vehicle.getId(), fields);
+        for (String gram : documentGrams(fields)) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(vehicle.getId());
+        }
+    }
+
+    @Override
+    protected void remove(Long vehicleId) {
+        String[] fields = documents.remove(vehicleId);
+        if (fields == null) {
+            return;
+        }
+        for (String gram : documentGrams(fields)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(vehicleId) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> documentGrams(String[] fields) {
+        Set<String> grams = new TreeSet<>();
+        for (String field : fields) {
+            for (String word : tokenize(field)) {
+                grams.addAll(gramsOf(word));
+                // Kısa sorgu kelimeleri önek olarak eşleşir
+                for (int i = 1; i < GRAM && i < word.length(); i++) {
+                    grams.add(word.substring(0, i));
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> gramsOf(String word) {
+        if (word.length() <= GRAM) {
+            return List.of(word);
+        }
+        List<String> grams = new ArrayList<>(word.length() - GRAM + 1);
+        for (int i = 0; i + GRAM <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static List<String> tokenize(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(normalized.split(" ")).distinct().toList();
+    }
+
+    // Küçük harf, harf / rakam dışı karakterler boşluk; Türkçe ı / İ, i'ye katlanır ("kia" = "KIA")
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.replace('İ', 'i').toLowerCase(Locale.ROOT).replace('ı', 'i');
+        return lower.replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+}
@@ -1,29 +1,59 @@
 package com.rentacar.service;
 
+import com.rentacar.config.CacheConfig;
+import com.rentacar.dto.VehicleFacets;
+import com.rentacar.dto.VehicleFilter;
+import com.rentacar.event.VehicleChangedEvent;
 import com.rentacar.exception.ResourceNotFoundException;
 import com.rentacar.model.Vehicle;
 import com.rentacar.repository.VehicleRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Araç Service
  * Araç ile ilgili iş mantığı
+ * Katalog okumaları önbellekten (CacheConfig) karşılanır
  */
 @Service
 @Transactional
 public class VehicleService {
 
+    // Facet'li araç listesi sayfa boyutları (HTML ve REST aynı sınırları kullanır)
+    public static final int DEFAULT_PAGE_SIZE = 24;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final VehicleRepository vehicleRepository;
+    private final VehicleSearchIndex vehicleSearchIndex;
+    private final VehicleFacetIndex vehicleFacetIndex;
+    private final VehicleAutocompleteIndex vehicleAutocompleteIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public VehicleService(VehicleRepository vehicleRepository) {
+    public VehicleService(VehicleRepository vehicleRepository,
+            VehicleSearchIndex vehicleSearchIndex,
+            VehicleFacetIndex vehicleFacetIndex,
+            VehicleAutocompleteIndex vehicleAutocompleteIndex,
+            ApplicationEventPublisher eventPublisher) {
         this.vehicleRepository = vehicleRepository;
+        this.vehicleSearchIndex = vehicleSearchIndex;
+        this.vehicleFacetIndex = vehicleFacetIndex;
+        this.vehicleAutocompleteIndex = vehicleAutocompleteIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Tüm araçları listele
      */
+    @Cacheable(cacheNames = CacheConfig.VEHICLE_LISTS, key = "'all'")
     @Transactional(readOnly = true)
     public List<Vehicle> getAllVehicles() {
         return vehicleRepository.findAll();
@@ -32,6 +62,7 @@ public class VehicleService {
     /**
      * Mevcut (available) araçları listele
      */
+    @Cacheable(cacheNames = CacheConfig.VEHICLE_LISTS, key = "'available'")
     @Transactional(readOnly = true)
     public List<Vehicle> getAvailableVehicles() {
         return vehicleRepository.findByAvailableTrue();
@@ -40,6 +71,7 @@ public class VehicleService {
     /**
      * ID ile araç getir
      */
+    @Cacheable(cacheNames = CacheConfig.VEHICLES, key = "#id")
     @Transactional(readOnly = true)
     public Vehicle getVehicleById(Long id) {
         return vehicleRepository.findById(id)
@@ -54,16 +86,94 @@ public class VehicleService {
         return vehicleRepository.findByBrandContainingIgnoreCase(brand);
     }
 
+    /**
+     * Marka, model, yıl ve açıklamada çok kelimeli arama (n-gram indeksi)
+     * Sonuçlar alaka sırasına göre döner
+     */
+    @Transactional(readOnly = true)
+    public List<Vehicle> search(String query) {
+        return getVehiclesByIds(vehicleSearchIndex.search(query));
+    }
+
+    /**
+     * Marka / model / tam ad için önek tamamlama (bellekteki trie'den)
+     */
+    public List<VehicleAutocompleteIndex.Suggestion> autocomplete(String prefix, int limit) {
+        return vehicleAutocompleteIndex.complete(prefix,
+                Math.min(limit, VehicleAutocompleteIndex.MAX_SUGGESTIONS));
+    }
+
+    /**
+     * Facet filtresine uyan araç ID'lerinin bir sayfası ve facet sayıları (veritabanına gitmez)
+     *
+     * @param after önceki sayfanın imleci (son araç ID'si), ilk sayfa için null
+     * @param size  sayfa boyutu; 1 - MAX_PAGE_SIZE aralığına çekilir
+     */
+    public VehicleFacets browseVehicles(VehicleFilter filter, Long after, int size) {
+        VehicleFacetIndex.Result result = vehicleFacetIndex.query(filter, after,
+                Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        return new VehicleFacets(filter, result.vehicleIds(), result.nextCursor(), result.matchCount(),
+                result.brandCounts(), result.modelCounts(), result.yearCounts(),
+                result.availableCount(), result.unavailableCount());
+    }
+
+    /**
+     * ID listesindeki araçları aynı sırayla getir (tek IN sorgusu)
+     */
+    @Transactional(readOnly = true)
+    public List<Vehicle> getVehiclesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Vehicle> byId = new HashMap<>();
+        for (Vehicle vehicle : vehicleRepository.findAllById(ids)) {
+            byId.put(vehicle.getId(), vehicle);
+        }
+        List<Vehicle> ranked = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Vehicle vehicle = byId.get(id);
+            if (vehicle != null) {
+                ranked.add(vehicle);
+            }
+        }
+        return ranked;
+    }
+
     /**
      * Yeni araç ekle
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.VEHICLE_LISTS, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.VEHICLE_LISTS, allEntries = true) })
     public Vehicle createVehicle(Vehicle vehicle) {
-        return vehicleRepository.save(vehicle);
+        Vehicle saved = vehicleRepository.save(vehicle);
+        eventPublisher.publishEvent(VehicleChangedEvent.saved(saved));
+        return saved;
+    }
+
+    /**
+     * Birden fazla aracı tek transaction'da ekle (JDBC batch insert)
+     */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.VEHICLE_LISTS, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.VEHICLE_LISTS, allEntries = true) })
+    public List<Vehicle> createVehicles(List<Vehicle> vehicles) {
+        List<Vehicle> saved = vehicleRepository.saveAll(vehicles);
+        saved.forEach(vehicle -> eventPublisher.publishEvent(VehicleChangedEvent.saved(vehicle)));
+        return saved;
     }
 
     /**
      * Araç güncelle
+     * Önbellek hem hemen (aynı transaction okumaları için) hem commit sonrası
+     * (arada eski veriyi yeniden yükleyen okumalar için) temizlenir
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.VEHICLES, key = "#id", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.VEHICLES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.VEHICLE_CARDS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.VEHICLE_LISTS, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.VEHICLE_LISTS, allEntries = true) })
     public Vehicle updateVehicle(Long id, Vehicle vehicleDetails) {
         Vehicle vehicle = getVehicleById(id);
         vehicle.setBrand(vehicleDetails.getBrand());
@@ -72,14 +182,23 @@ public class VehicleService {
         vehicle.setImageUrl(vehicleDetails.getImageUrl());
         vehicle.setDescription(vehicleDetails.getDescription());
         vehicle.setAvailable(vehicleDetails.isAvailable());
-        return vehicleRepository.save(vehicle);
+        Vehicle saved = vehicleRepository.save(vehicle);
+        eventPublisher.publishEvent(VehicleChangedEvent.saved(saved));
+        return saved;
     }
 
     /**
      * Araç sil
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.VEHICLES, key = "#id", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.VEHICLES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.VEHICLE_CARDS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.VEHICLE_LISTS, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.VEHICLE_LISTS, allEntries = true) })
     public void deleteVehicle(Long id) {
         Vehicle vehicle = getVehicleById(id);
         vehicleRepository.delete(vehicle);
+        eventPublisher.publishEvent(VehicleChangedEvent.deleted(id));
     }
 }
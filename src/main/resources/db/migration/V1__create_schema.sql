@@ -0,0 +1,32 @@
+-- Başlangıç şeması (önceden ddl-auto ile üretilen yapı)
+
+CREATE SEQUENCE vehicle_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE appointment_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE vehicles (
+    id              BIGINT       NOT NULL,
+    brand           VARCHAR(255) NOT NULL,
+    model           VARCHAR(255) NOT NULL,
+    production_year INTEGER      NOT NULL CHECK (production_year >= 1990),
+    image_url       VARCHAR(255),
+    description     VARCHAR(500),
+    available       BOOLEAN      NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE appointments (
+    id               BIGINT       NOT NULL,
+    vehicle_id       BIGINT       NOT NULL,
+    customer_name    VARCHAR(100) NOT NULL,
+    customer_phone   VARCHAR(255) NOT NULL,
+    customer_email   VARCHAR(255),
+    appointment_date DATE         NOT NULL,
+    appointment_time TIME(6)      NOT NULL,
+    status           VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED')),
+    notes            VARCHAR(500),
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_vehicle_date_time UNIQUE (vehicle_id, appointment_date, appointment_time),
+    CONSTRAINT fk_appointments_vehicle FOREIGN KEY (vehicle_id) REFERENCES vehicles (id)
+);
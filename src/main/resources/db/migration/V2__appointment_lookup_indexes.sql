@@ -0,0 +1,12 @@
+-- AppointmentRepository sorgu şekillerine uygun ikincil indeksler
+-- (araç bazlı aramalar uk_vehicle_date_time ile karşılanır)
+
+-- findByCustomerPhone / findByCustomerEmail ("randevularım")
+CREATE INDEX idx_appointments_phone_date ON appointments (customer_phone, appointment_date, appointment_time);
+CREATE INDEX idx_appointments_email ON appointments (customer_email);
+
+-- findByStatus, durum filtreli sayfalama
+CREATE INDEX idx_appointments_status_date ON appointments (status, appointment_date, appointment_time);
+
+-- findTodayAppointments, findActiveAppointments, findPage sıralaması, tarih aralıkları
+CREATE INDEX idx_appointments_date_time ON appointments (appointment_date, appointment_time, id);
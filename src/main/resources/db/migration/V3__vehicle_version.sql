@@ -0,0 +1,2 @@
+-- Vehicle @Version sütunu (optimistic lock, render önbelleği anahtarı)
+ALTER TABLE vehicles ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
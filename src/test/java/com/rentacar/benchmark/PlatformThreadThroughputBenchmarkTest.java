@@ -0,0 +1,23 @@
+package com.rentacar.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Throughput: varsayılan Tomcat platform thread havuzu
+ *
+ * Test Seviyesi: BENCHMARK (-Dbenchmark=true)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Throughput Benchmark - Platform Threads")
+class PlatformThreadThroughputBenchmarkTest extends ThroughputBenchmark {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,105 @@
+package com.rentacar.benchmark;
+
+import com.rentacar.model.Vehicle;
+import com.rentacar.support.LiveServerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * İstek işleme throughput ölçümü (listeleme ve randevu alma)
+ * Gerçek Tomcat üzerinde (RANDOM_PORT) eşzamanlı HTTP istemcileriyle çalışır.
+ * Alt sınıflar thread modelini (platform / virtual) profil ile seçer.
+ *
+ * Normal test koşusunda atlanır; çalıştırmak için:
+ * mvn test -Dbenchmark=true -Dtest='*ThroughputBenchmarkTest'
+ */
+abstract class ThroughputBenchmark extends LiveServerTest {
+
+    // Aynı anda istek gönderen istemci sayısı (Tomcat varsayılan havuzu: 200)
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 4000);
+    private static final int WARMUP_REQUESTS = 500;
+
+    // 09:00 - 18:00 arası saatlik slot sayısı
+    private static final int SLOTS_PER_DAY = 10;
+
+    private Vehicle vehicle;
+
+    /**
+     * Rapordaki thread modeli adı
+     */
+    abstract String mode();
+
+    @BeforeEach
+    void setUp() {
+        vehicle = createVehicle("Benchmark", "Throughput");
+    }
+
+    @Test
+    @DisplayName("BENCH-01: Araç listesi throughput")
+    void listing() throws Exception {
+        run("GET /vehicles", i -> get("/vehicles"), WARMUP_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("BENCH-02: Randevu alma throughput")
+    void booking() throws Exception {
+        LocalDate firstDay = LocalDate.now().plusDays(1);
+        // Her istek ayrı bir slota gider; ısınma istekleri ölçülenlerden önceki slotları kullanır
+        run("POST /api/v1/appointments", i -> {
+            LocalDate date = firstDay.plusDays(i / SLOTS_PER_DAY);
+            LocalTime time = LocalTime.of(9 + i % SLOTS_PER_DAY, 0);
+            String body = String.format(
+                    "{\"vehicleId\":%d,\"customerName\":\"Yük Testi\",\"customerPhone\":\"05551234567\","
+                            + "\"appointmentDate\":\"%s\",\"appointmentTime\":\"%s\"}",
+                    vehicle.getId(), date, time);
+            return HttpRequest.newBuilder(uri("/api/v1/appointments"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }, WARMUP_REQUESTS);
+    }
+
+    private void run(String name, IntFunction<HttpRequest> requests, int warmup) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            send(clients, requests, 0, warmup);
+
+            long start = System.nanoTime();
+            send(clients, requests, warmup, REQUESTS);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            report("benchmark", "%-8s %-28s %6d istek, %4d eşzamanlı: %8.1f istek/sn",
+                    mode(), name, REQUESTS, CONCURRENCY, REQUESTS / seconds);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private void send(ExecutorService clients, IntFunction<HttpRequest> requests, int offset, int count)
+            throws Exception {
+        List<Future<Integer>> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HttpRequest request = requests.apply(offset + i);
+            responses.add(clients.submit(() -> client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+        }
+        for (Future<Integer> response : responses) {
+            int status = response.get();
+            assertTrue(status >= 200 && status < 300, "Beklenmeyen HTTP durumu: " + status);
+        }
+    }
+}
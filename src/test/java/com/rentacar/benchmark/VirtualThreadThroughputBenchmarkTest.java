@@ -0,0 +1,26 @@
+package com.rentacar.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Throughput: virtual-threads profili (Java 21+)
+ *
+ * Test Seviyesi: BENCHMARK (-Dbenchmark=true)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "virtual-threads"})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisplayName("Throughput Benchmark - Virtual Threads")
+class VirtualThreadThroughputBenchmarkTest extends ThroughputBenchmark {
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+}
@@ -6,6 +6,9 @@ import com.rentacar.model.Vehicle;
 import com.rentacar.repository.AppointmentRepository;
 import com.rentacar.repository.VehicleRepository;
 import com.rentacar.service.AppointmentService;
+import com.rentacar.support.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -52,6 +55,12 @@ class AppointmentFlowE2ETest {
     @Autowired
     private AppointmentService appointmentService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Vehicle testVehicle;
 
     @BeforeEach
@@ -266,4 +275,21 @@ class AppointmentFlowE2ETest {
                 testVehicle.getId(), date);
         assertEquals(3, appointments.size());
     }
+
+    @Test
+    @Order(7)
+    @DisplayName("E2E-07: Randevu alma isteği SQL bütçesi içinde kalmalı")
+    void createAppointment_ShouldStayWithinStatementBudget() throws Throwable {
+        SqlStatementCounter counter = new SqlStatementCounter(entityManagerFactory, entityManager);
+
+        // Araç okuma + INSERT (+ pooled sequence bloğu bittiyse 1 sequence çağrısı)
+        counter.assertWithinBudget("POST /appointments", 3, () -> mockMvc.perform(post("/appointments")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .param("vehicleId", testVehicle.getId().toString())
+                .param("customerName", "Bütçe Müşteri")
+                .param("customerPhone", "05559993333")
+                .param("appointmentDate", LocalDate.now().plusDays(2).toString())
+                .param("appointmentTime", "11:00"))
+                .andExpect(status().is3xxRedirection()));
+    }
 }
@@ -0,0 +1,166 @@
+package com.rentacar.integration;
+
+import com.rentacar.model.Vehicle;
+import com.rentacar.repository.VehicleRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * REST API (/api/v1) Entegrasyon Testleri
+ *
+ * Test Seviyesi: INTEGRATION TEST
+ * JSON gövde, alan seçimi, koşullu istek ve hata eşlemesi test edilir
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("REST API Integration Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    private Vehicle testVehicle;
+
+    @BeforeEach
+    void setUp() {
+        testVehicle = vehicleRepository.save(new Vehicle("Api", "Test", 2024));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("API-01: Araç detayı seçilen alanlarla ve ETag ile dönmeli")
+    void getVehicle_WithFields_ShouldReturnSelectedFields() throws Exception {
+        mockMvc.perform(get("/api/v1/vehicles/{id}", testVehicle.getId()).param("fields", "id,brand"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.id", is(testVehicle.getId().intValue())))
+                .andExpect(jsonPath("$.brand", is("Api")))
+                .andExpect(jsonPath("$.model").doesNotExist());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("API-02: Değişmeyen kaynak için If-None-Match 304 dönmeli")
+    void getVehicle_WithMatchingEtag_ShouldReturnNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/vehicles/{id}", testVehicle.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/vehicles/{id}", testVehicle.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("API-03: Olmayan araç 404 JSON dönmeli")
+    void getVehicle_NotFound_ShouldReturn404() throws Exception {
+        mockMvc.perform(get("/api/v1/vehicles/{id}", 999999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status", is(404)));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("API-04: Randevu alınmalı, aynı slot 409 dönmeli")
+    void createAppointment_ThenDuplicate_ShouldConflict() throws Exception {
+        String body = appointmentJson("Api Müşteri");
+
+        mockMvc.perform(post("/api/v1/appointments").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(HttpHeaders.LOCATION))
+                .andExpect(jsonPath("$.vehicleId", is(testVehicle.getId().intValue())))
+                .andExpect(jsonPath("$.status", is("PENDING")));
+
+        mockMvc.perform(post("/api/v1/appointments").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("API-05: Geçersiz randevu alan hatalarıyla 400 dönmeli")
+    void createAppointment_Invalid_ShouldReturnFieldErrors() throws Exception {
+        mockMvc.perform(post("/api/v1/appointments").contentType(MediaType.APPLICATION_JSON)
+                .content(appointmentJson("")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields.customerName").exists());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("API-06: Admin API auth gerektirmeli")
+    void adminApi_WithoutAuth_ShouldReturn401() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/appointments"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @Order(7)
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("API-07: Admin randevu listesi sayfa gövdesi dönmeli")
+    void adminApi_Appointments_ShouldReturnPage() throws Exception {
+        mockMvc.perform(post("/api/v1/appointments").contentType(MediaType.APPLICATION_JSON)
+                .content(appointmentJson("Api Müşteri")));
+
+        mockMvc.perform(get("/api/v1/admin/appointments")
+                .param("vehicleId", testVehicle.getId().toString())
+                .param("fields", "id,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].status", is("PENDING")))
+                .andExpect(jsonPath("$.items[0].customerName").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    private String appointmentJson(String customerName) {
+        return """
+                {"vehicleId": %d, "customerName": "%s", "customerPhone": "05551234567",
+                 "appointmentDate": "%s", "appointmentTime": "10:00"}
+                """.formatted(testVehicle.getId(), customerName, LocalDate.now().plusDays(2));
+    }
+
+    @Test
+    @Order(8)
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("API-08: SQL istatistikleri en sık çalışan sorguları listelemeli")
+    void adminApi_SqlStats_ShouldListQueries() throws Exception {
+        mockMvc.perform(delete("/api/v1/admin/sql-stats"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/admin/appointments").param("vehicleId", testVehicle.getId().toString()));
+
+        mockMvc.perform(get("/api/v1/admin/sql-stats").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled", is(true)))
+                .andExpect(jsonPath("$.queryExecutionCount", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.mostFrequent", hasSize(lessThanOrEqualTo(3))))
+                .andExpect(jsonPath("$.mostFrequent[0].query", containsString("Appointment")))
+                .andExpect(jsonPath("$.slowest[0].executionCount", greaterThanOrEqualTo(1)));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("API-09: SQL istatistikleri auth gerektirmeli")
+    void adminApi_SqlStatsWithoutAuth_ShouldReturn401() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/sql-stats"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -5,9 +5,12 @@ import com.rentacar.model.AppointmentStatus;
 import com.rentacar.model.Vehicle;
 import com.rentacar.repository.AppointmentRepository;
 import com.rentacar.repository.VehicleRepository;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -34,6 +37,9 @@ class AppointmentRepositoryIntegrationTest {
     @Autowired
     private VehicleRepository vehicleRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Vehicle testVehicle;
 
     @BeforeEach
@@ -207,6 +213,97 @@ class AppointmentRepositoryIntegrationTest {
         assertEquals(2, result.size());
     }
 
+    @Test
+    @Order(9)
+    @DisplayName("IT-09: Keyset sayfalama - Sayfalar örtüşmeden ilerlemeli")
+    void findPage_ShouldSeekPastCursor() {
+        // Given - aynı gün/saatte sıralamayı id belirler
+        LocalDate date = LocalDate.now().plusDays(20);
+        appointmentRepository.save(createTestAppointment(date, LocalTime.of(9, 0)));
+        appointmentRepository.save(createTestAppointment(date, LocalTime.of(10, 0)));
+        appointmentRepository.save(createTestAppointment(date.plusDays(1), LocalTime.of(9, 0)));
+
+        // When
+        List<Appointment> first = appointmentRepository.findPage(
+                null, null, null, null, null, null, null, Limit.of(2));
+        Appointment last = first.get(1);
+        List<Appointment> second = appointmentRepository.findPage(
+                null, null, null, null,
+                last.getAppointmentDate(), last.getAppointmentTime(), last.getId(), Limit.of(2));
+
+        // Then
+        assertEquals(2, first.size());
+        assertEquals(LocalTime.of(10, 0), last.getAppointmentTime());
+        assertEquals(1, second.size());
+        assertEquals(date.plusDays(1), second.get(0).getAppointmentDate());
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("IT-10: Keyset sayfalama - Durum ve tarih filtreleri sorguda uygulanmalı")
+    void findPage_WithFilters_ShouldReturnMatchingOnly() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(25);
+        Appointment confirmed = createTestAppointment(date, LocalTime.of(9, 0));
+        confirmed.setStatus(AppointmentStatus.CONFIRMED);
+        appointmentRepository.save(confirmed);
+        appointmentRepository.save(createTestAppointment(date, LocalTime.of(10, 0)));
+        appointmentRepository.save(createTestAppointment(date.plusDays(10), LocalTime.of(10, 0)));
+
+        // When
+        List<Appointment> result = appointmentRepository.findPage(
+                AppointmentStatus.PENDING, testVehicle.getId(), date, date.plusDays(1),
+                null, null, null, Limit.of(10));
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(LocalTime.of(10, 0), result.get(0).getAppointmentTime());
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("IT-11: Listeleme sorguları aracı aynı sorguda yüklemeli (N+1 yok)")
+    void listingQueries_ShouldFetchVehicle() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(30);
+        appointmentRepository.save(createTestAppointment(date, LocalTime.of(9, 0)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Appointment> byPhone = appointmentRepository.findByCustomerPhone("05551234567");
+        List<Appointment> page = appointmentRepository.findPage(
+                null, null, null, null, null, null, null, Limit.of(10));
+
+        // Then
+        assertTrue(Hibernate.isInitialized(byPhone.get(0).getVehicle()));
+        assertTrue(Hibernate.isInitialized(page.get(0).getVehicle()));
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("IT-12: İstatistik sorgusu araç, gün ve duruma göre gruplamalı")
+    void countByVehicleDateAndStatus_ShouldGroupRows() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(40);
+        appointmentRepository.save(createTestAppointment(date, LocalTime.of(9, 0)));
+        appointmentRepository.save(createTestAppointment(date, LocalTime.of(10, 0)));
+        Appointment confirmed = createTestAppointment(date, LocalTime.of(11, 0));
+        confirmed.setStatus(AppointmentStatus.CONFIRMED);
+        appointmentRepository.save(confirmed);
+
+        // When
+        List<AppointmentRepository.StatusCount> rows = appointmentRepository.countByVehicleDateAndStatus();
+
+        // Then
+        assertEquals(2, rows.size());
+        for (AppointmentRepository.StatusCount row : rows) {
+            assertEquals(testVehicle.getId(), row.getVehicleId());
+            assertEquals(date, row.getAppointmentDate());
+            assertEquals(row.getStatus() == AppointmentStatus.PENDING ? 2 : 1, row.getTotal());
+        }
+    }
+
     // Helper method
     private Appointment createTestAppointment(LocalDate date, LocalTime time) {
         Appointment appointment = new Appointment();
@@ -0,0 +1,92 @@
+package com.rentacar.integration;
+
+import com.rentacar.model.Vehicle;
+import com.rentacar.repository.VehicleRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Randevu Metrikleri (Actuator / Prometheus) Entegrasyon Testleri
+ *
+ * Test Seviyesi: INTEGRATION TEST
+ * Randevu alma süreleri, red sayaçları ve birikim gauge'ları test edilir
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Metrics Integration Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    private Vehicle testVehicle;
+
+    @BeforeEach
+    void setUp() {
+        testVehicle = vehicleRepository.save(new Vehicle("Metrik", "Test", 2024));
+    }
+
+    @Test
+    @Order(1)
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("MET-01: Randevu alma süreleri ve red sayaçları Prometheus formatında dönmeli")
+    void prometheus_AfterBookings_ShouldExposeBookingMetrics() throws Exception {
+        // Given - toplam süre controller'da ölçülür; istekler API üzerinden
+        mockMvc.perform(post("/api/v1/appointments").contentType(MediaType.APPLICATION_JSON)
+                        .content(bookingJson("10:00")))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/v1/appointments").contentType(MediaType.APPLICATION_JSON)
+                        .content(bookingJson("20:00")))
+                .andExpect(status().isBadRequest());
+
+        // When & Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(matchesPattern(
+                        "(?s).*booking_create_seconds_count\\{outcome=\"success\",?} [1-9].*")))
+                .andExpect(content().string(containsString("booking_create_seconds_bucket{outcome=\"InvalidTimeException\"")))
+                .andExpect(content().string(containsString("booking_stage_seconds_count{stage=\"save\"")))
+                .andExpect(content().string(containsString("booking_stage_seconds{stage=\"validateNoConflict\",quantile=\"0.99\"")))
+                .andExpect(content().string(matchesPattern(
+                        "(?s).*booking_rejections_total\\{reason=\"InvalidTimeException\",?} [1-9].*")))
+                .andExpect(content().string(containsString("appointments_backlog{status=\"pending\"")));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("MET-02: Metrik uç noktası auth gerektirmeli, health açık olmalı")
+    void prometheus_WithoutAuth_ShouldReturn401() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    private String bookingJson(String time) {
+        return String.format("{\"vehicleId\":%d,\"customerName\":\"Metrik Müşteri\","
+                + "\"customerPhone\":\"05551234567\",\"appointmentDate\":\"%s\",\"appointmentTime\":\"%s\"}",
+                testVehicle.getId(), LocalDate.now().plusDays(1), time);
+    }
+}
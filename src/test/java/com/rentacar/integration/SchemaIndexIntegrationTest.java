@@ -0,0 +1,119 @@
+package com.rentacar.integration;
+
+import com.rentacar.model.AppointmentStatus;
+import com.rentacar.repository.AppointmentRepository;
+import com.rentacar.repository.VehicleRepository;
+import com.rentacar.support.CapturedStatements;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Şema / İndeks Entegrasyon Testleri
+ *
+ * Test Seviyesi: INTEGRATION TEST
+ * Flyway migration'ları ile kurulan şemada repository metotlarının ürettiği SQL
+ * yakalanır (StatementInspector) ve aynı parametrelerle H2 EXPLAIN çıktısından
+ * indeks kullanımı doğrulanır
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.rentacar.support.CapturedStatements")
+@ActiveProfiles("test")
+@DisplayName("Schema Index Integration Tests")
+class SchemaIndexIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    private final LocalDate date = LocalDate.now().plusDays(1);
+    private final LocalTime time = LocalTime.of(10, 0);
+
+    @Test
+    @DisplayName("IDX-SQL-01: Migration'lar uygulanmış olmalı")
+    void migrations_ShouldBeApplied() {
+        Integer applied = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"success\" = TRUE", Integer.class);
+        assertTrue(applied >= 2);
+    }
+
+    @Test
+    @DisplayName("IDX-SQL-02: Telefon ile arama indeks kullanmalı")
+    void findByCustomerPhone_ShouldUseIndex() {
+        String sql = CapturedStatements.lastSelect(() -> appointmentRepository.findByCustomerPhone("05551234567"));
+        assertUsesIndex(sql, "IDX_APPOINTMENTS_PHONE_DATE", "05551234567");
+    }
+
+    @Test
+    @DisplayName("IDX-SQL-03: Dashboard bugünkü randevular sayfası tarih indeksini kullanmalı")
+    void findPage_Today_ShouldUseDateIndex() {
+        LocalDate today = LocalDate.now();
+        String sql = CapturedStatements.lastSelect(() -> appointmentRepository.findPage(
+                null, null, today, today, null, null, null, Limit.of(11)));
+        assertUsesIndex(sql, "IDX_APPOINTMENTS_DATE_TIME", today, today, 11);
+    }
+
+    @Test
+    @DisplayName("IDX-SQL-04: Slot indeksi yüklemesi tarih indeksini kullanmalı")
+    void findBookedSlotsFrom_ShouldUseDateIndex() {
+        LocalDate today = LocalDate.now();
+        String sql = CapturedStatements.lastSelect(() -> appointmentRepository.findBookedSlotsFrom(today));
+        assertUsesIndex(sql, "IDX_APPOINTMENTS_DATE_TIME", today);
+    }
+
+    @Test
+    @DisplayName("IDX-SQL-05: Filtresiz keyset sayfası imleçten tarih indeksiyle ilerlemeli")
+    void findPage_Cursor_ShouldSeekDateIndex() {
+        String sql = CapturedStatements.lastSelect(() -> appointmentRepository.findPage(
+                null, null, null, null, date, time, 42L, Limit.of(21)));
+        String plan = assertUsesIndex(sql, "IDX_APPOINTMENTS_DATE_TIME", date, time, 42L, 21);
+        assertTrue(plan.contains("APPOINTMENT_DATE >="), () -> "İmleç indeks koşulu değil: " + plan);
+    }
+
+    @Test
+    @DisplayName("IDX-SQL-06: Durum filtreli keyset sayfası durum indeksini kullanmalı")
+    void findPage_Status_ShouldUseStatusIndex() {
+        String sql = CapturedStatements.lastSelect(() -> appointmentRepository.findPage(
+                AppointmentStatus.PENDING, null, null, null, date, time, 42L, Limit.of(21)));
+        assertUsesIndex(sql, "IDX_APPOINTMENTS_STATUS_DATE", "PENDING", date, time, 42L, 21);
+    }
+
+    @Test
+    @DisplayName("IDX-SQL-07: Araç filtreli keyset sayfası araç-slot indeksini kullanmalı")
+    void findPage_Vehicle_ShouldUseSlotIndex() {
+        String sql = CapturedStatements.lastSelect(() -> appointmentRepository.findPage(
+                null, 1L, date, null, null, null, null, Limit.of(21)));
+        assertUsesIndex(sql, "UK_VEHICLE_DATE_TIME", 1L, date, 21);
+    }
+
+    @Test
+    @DisplayName("IDX-SQL-08: Araç müsaitlik sütununda indeks olmamalı (iki değerli sütun)")
+    void vehiclesAvailable_ShouldHaveNoIndex() {
+        Integer indexes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'IDX_VEHICLES_AVAILABLE'",
+                Integer.class);
+        assertEquals(0, indexes);
+        assertNotNull(vehicleRepository.findByAvailableTrue());
+    }
+
+    private String assertUsesIndex(String sql, String indexName, Object... parameters) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+        assertNotNull(plan);
+        assertTrue(plan.toUpperCase().contains(indexName), () -> "Beklenen indeks kullanılmıyor: " + plan);
+        return plan;
+    }
+}
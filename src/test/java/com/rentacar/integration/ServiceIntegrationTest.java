@@ -1,17 +1,24 @@
 package com.rentacar.integration;
 
+import com.rentacar.dto.AppointmentForm;
+import com.rentacar.dto.AvailabilityMatrix;
+import com.rentacar.dto.BookingResult;
 import com.rentacar.exception.AppointmentConflictException;
 import com.rentacar.exception.InvalidTimeException;
 import com.rentacar.exception.PastDateException;
 import com.rentacar.model.Appointment;
 import com.rentacar.model.AppointmentStatus;
 import com.rentacar.model.Vehicle;
+import com.rentacar.repository.AppointmentRepository;
 import com.rentacar.repository.VehicleRepository;
 import com.rentacar.service.AppointmentService;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -39,6 +46,12 @@ class ServiceIntegrationTest {
     @Autowired
     private VehicleRepository vehicleRepository;
 
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Vehicle testVehicle;
 
     @BeforeEach
@@ -48,6 +61,15 @@ class ServiceIntegrationTest {
         testVehicle = vehicleRepository.save(testVehicle);
     }
 
+    @AfterEach
+    void tearDown() {
+        // Transaction'sız testler (bookBatch parçaları kendi transaction'ında commit eder) kendi verisini siler
+        if (!TestTransaction.isActive()) {
+            jdbcTemplate.update("DELETE FROM appointments WHERE vehicle_id = ?", testVehicle.getId());
+            vehicleRepository.deleteById(testVehicle.getId());
+        }
+    }
+
     @Test
     @Order(1)
     @DisplayName("SIT-01: Full flow - Randevu oluşturma ve kaydetme")
@@ -231,4 +253,143 @@ class ServiceIntegrationTest {
         assertTrue(bookedTimes.contains(LocalTime.of(12, 0)));
         assertTrue(bookedTimes.contains(LocalTime.of(16, 0)));
     }
+
+    @Test
+    @Order(9)
+    @DisplayName("SIT-09: Servis dışından alınmış slot - Kısıt ihlali çakışma olarak dönmeli")
+    void createAppointment_SlotTakenOutsideService_ShouldThrowConflict() {
+        // Given - slot indeksi görmeden doğrudan repository ile kaydedilmiş randevu
+        LocalDate date = LocalDate.now().plusDays(8);
+        LocalTime time = LocalTime.of(13, 0);
+        appointmentRepository.saveAndFlush(
+                new Appointment(testVehicle, "Direct Insert", "05556666666", date, time));
+
+        // When & Then
+        assertThrows(AppointmentConflictException.class, () -> appointmentService.createAppointment(
+                testVehicle.getId(), "Service User", "05557777777", null,
+                date, time));
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("SIT-10: Müsaitlik matrisi dolu slotları kapalı göstermeli")
+    void getAvailabilityMatrix_ShouldMarkBookedSlots() {
+        // Given
+        LocalDate start = LocalDate.now().plusDays(1);
+        LocalDate end = start.plusDays(6);
+        appointmentService.createAppointment(
+                testVehicle.getId(), "Matrix1", "05551111111", null,
+                start, LocalTime.of(10, 0));
+        appointmentService.createAppointment(
+                testVehicle.getId(), "Matrix2", "05552222222", null,
+                end, LocalTime.of(18, 0));
+
+        // When
+        AvailabilityMatrix matrix = appointmentService.getAvailabilityMatrix(
+                List.of(testVehicle.getId()), start, end);
+
+        // Then
+        assertEquals(7, matrix.getVehicles().get(testVehicle.getId()).length);
+        assertFalse(matrix.isFree(testVehicle.getId(), start, LocalTime.of(10, 0)));
+        assertTrue(matrix.isFree(testVehicle.getId(), start, LocalTime.of(11, 0)));
+        assertFalse(matrix.isFree(testVehicle.getId(), end, LocalTime.of(18, 0)));
+        assertTrue(matrix.isFree(testVehicle.getId(), start.plusDays(3), LocalTime.of(10, 0)));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("SIT-11: Toplu randevu oluşturma - Hepsi kaydedilmeli")
+    void createAppointments_Batch_ShouldPersistAll() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(9);
+        List<Appointment> batch = List.of(
+                new Appointment(testVehicle, "Batch1", "05551111111", date, LocalTime.of(9, 0)),
+                new Appointment(testVehicle, "Batch2", "05552222222", date, LocalTime.of(10, 0)),
+                new Appointment(testVehicle, "Batch3", "05553333333", date, LocalTime.of(11, 0)));
+
+        // When
+        List<Appointment> saved = appointmentService.createAppointments(batch);
+
+        // Then
+        assertEquals(3, saved.size());
+        assertTrue(saved.stream().allMatch(a -> a.getId() != null));
+        assertEquals(3, appointmentService.getBookedTimesForVehicle(testVehicle.getId(), date).size());
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("SIT-12: Toplu randevuda aynı slot iki kez - Çakışma olmalı")
+    void createAppointments_DuplicateSlotInBatch_ShouldThrow() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(10);
+        List<Appointment> batch = List.of(
+                new Appointment(testVehicle, "Batch1", "05551111111", date, LocalTime.of(9, 0)),
+                new Appointment(testVehicle, "Batch2", "05552222222", date, LocalTime.of(9, 0)));
+
+        // When & Then
+        assertThrows(AppointmentConflictException.class, () -> appointmentService.createAppointments(batch));
+    }
+
+    @Test
+    @Order(13)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("SIT-13: Toplu randevu - Kalem bazında sonuç dönmeli")
+    void bookBatch_MixedItems_ShouldReportPerItem() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(11);
+        List<AppointmentForm> requests = List.of(
+                bookingForm(testVehicle.getId(), date, LocalTime.of(9, 0)),
+                bookingForm(testVehicle.getId(), date, LocalTime.of(9, 0)), // aynı slot
+                bookingForm(testVehicle.getId(), date, LocalTime.of(20, 0)), // mesai dışı
+                bookingForm(-1L, date, LocalTime.of(10, 0)), // olmayan araç
+                bookingForm(testVehicle.getId(), date, LocalTime.of(10, 0)));
+
+        // When
+        List<BookingResult> results = appointmentService.bookBatch(requests);
+
+        // Then
+        assertEquals(BookingResult.Status.BOOKED, results.get(0).getStatus());
+        assertNotNull(results.get(0).getAppointmentId());
+        assertEquals(BookingResult.Status.CONFLICT, results.get(1).getStatus());
+        assertEquals(BookingResult.Status.INVALID, results.get(2).getStatus());
+        assertEquals(BookingResult.Status.INVALID, results.get(3).getStatus());
+        assertEquals(BookingResult.Status.BOOKED, results.get(4).getStatus());
+        assertEquals(2, appointmentService.getBookedTimesForVehicle(testVehicle.getId(), date).size());
+    }
+
+    @Test
+    @Order(14)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("SIT-14: Toplu randevu - Kontrolden sonra alınan slot yalnızca o kalemi reddetmeli")
+    void bookBatch_SlotTakenBehindIndex_ShouldRejectOnlyThatItem() {
+        // Given: slot indeksin haberi olmadan (başka düğüm gibi) veritabanında alınmış
+        LocalDate date = LocalDate.now().plusDays(12);
+        jdbcTemplate.update("INSERT INTO appointments (id, vehicle_id, customer_name, customer_phone, "
+                + "appointment_date, appointment_time, status, created_at) "
+                + "VALUES (-1, ?, 'Other Node', '05559999999', ?, '10:00:00', 'PENDING', CURRENT_TIMESTAMP)",
+                testVehicle.getId(), date);
+        List<AppointmentForm> requests = List.of(
+                bookingForm(testVehicle.getId(), date, LocalTime.of(9, 0)),
+                bookingForm(testVehicle.getId(), date, LocalTime.of(10, 0)),
+                bookingForm(testVehicle.getId(), date, LocalTime.of(11, 0)));
+
+        // When: parça INSERT'i uk_vehicle_date_time'a takılır, kalemler tek tek denenir
+        List<BookingResult> results = appointmentService.bookBatch(requests);
+
+        // Then
+        assertEquals(BookingResult.Status.BOOKED, results.get(0).getStatus());
+        assertEquals(BookingResult.Status.CONFLICT, results.get(1).getStatus());
+        assertEquals(BookingResult.Status.BOOKED, results.get(2).getStatus());
+        assertEquals(3, appointmentRepository.findByVehicleIdAndAppointmentDate(testVehicle.getId(), date).size());
+    }
+
+    private AppointmentForm bookingForm(Long vehicleId, LocalDate date, LocalTime time) {
+        AppointmentForm form = new AppointmentForm();
+        form.setVehicleId(vehicleId);
+        form.setCustomerName("Fleet Event");
+        form.setCustomerPhone("05558888888");
+        form.setAppointmentDate(date);
+        form.setAppointmentTime(time);
+        return form;
+    }
 }
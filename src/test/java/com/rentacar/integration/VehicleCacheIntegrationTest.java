@@ -0,0 +1,108 @@
+package com.rentacar.integration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.rentacar.config.CacheConfig;
+import com.rentacar.model.Vehicle;
+import com.rentacar.service.VehicleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Araç Kataloğu Önbellek Entegrasyon Testleri
+ *
+ * Test Seviyesi: INTEGRATION TEST
+ * NOT: Önbelleğe yazma commit sonrası yapıldığından testler transaction dışında çalışır
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Vehicle Cache Integration Tests")
+class VehicleCacheIntegrationTest {
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Vehicle testVehicle;
+
+    @BeforeEach
+    void setUp() {
+        testVehicle = vehicleService.createVehicle(new Vehicle("Cache", "Test", 2024));
+    }
+
+    @AfterEach
+    void tearDown() {
+        vehicleService.deleteVehicle(testVehicle.getId());
+    }
+
+    @Test
+    @DisplayName("CACHE-01: İkinci okuma önbellekten gelmeli")
+    void getVehicleById_SecondCall_ShouldHitCache() {
+        // Given
+        long hits = nativeCache(CacheConfig.VEHICLES).stats().hitCount();
+
+        // When
+        Vehicle first = vehicleService.getVehicleById(testVehicle.getId());
+        Vehicle second = vehicleService.getVehicleById(testVehicle.getId());
+
+        // Then
+        assertSame(first, second);
+        assertEquals(hits + 1, nativeCache(CacheConfig.VEHICLES).stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("CACHE-02: Güncelleme ilgili araç ve listeleri önbellekten çıkarmalı")
+    void updateVehicle_ShouldEvictVehicleAndLists() {
+        // Given
+        vehicleService.getVehicleById(testVehicle.getId());
+        vehicleService.getAvailableVehicles();
+
+        // When
+        Vehicle details = vehicleService.getVehicleById(testVehicle.getId());
+        Vehicle changed = new Vehicle(details.getBrand(), "Güncel", details.getYear());
+        vehicleService.updateVehicle(testVehicle.getId(), changed);
+
+        // Then
+        assertNull(nativeCache(CacheConfig.VEHICLES).getIfPresent(testVehicle.getId()));
+        assertNull(nativeCache(CacheConfig.VEHICLE_LISTS).getIfPresent("available"));
+        assertEquals("Güncel", vehicleService.getVehicleById(testVehicle.getId()).getModel());
+    }
+
+    @Test
+    @DisplayName("CACHE-03: Rollback olan transaction önbelleğe yazmamalı")
+    void rolledBackTransaction_ShouldNotPopulateCache() {
+        // Given
+        vehicleService.getAllVehicles();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            vehicleService.createVehicle(new Vehicle("Rollback", "Test", 2024));
+            List<Vehicle> inside = vehicleService.getAllVehicles();
+            assertTrue(inside.stream().anyMatch(v -> "Rollback".equals(v.getBrand())));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertTrue(vehicleService.getAllVehicles().stream().noneMatch(v -> "Rollback".equals(v.getBrand())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(String name) {
+        return (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+}
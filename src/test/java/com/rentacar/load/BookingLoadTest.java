@@ -0,0 +1,328 @@
+package com.rentacar.load;
+
+import com.rentacar.model.Vehicle;
+import com.rentacar.service.AppointmentService;
+import com.rentacar.support.LiveServerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Uçtan uca randevu akışı yük testi
+ *
+ * Test Seviyesi: LOAD TEST (-Dload=true)
+ * Gerçek Tomcat üzerinde (RANDOM_PORT) binlerce eşzamanlı sanal kullanıcı çalışır.
+ * Her kullanıcı tur başına: araç listesi → randevu formu gönder (POST /appointments) → randevularım
+ * → (bazı turlarda) listedeki ilk aktif randevuyu iptal et.
+ * Sanal kullanıcılar thread değil, asenkron HttpClient zinciridir (Java 17'de de binlerce kullanıcı).
+ *
+ * Talep birkaç sıcak araç ve saate yığılır; rapor throughput, gecikme yüzdelikleri
+ * ve çakışma oranını verir. Veritabanında hiçbir slotta, iptal edilenler dahil, kapasiteden (1)
+ * fazla randevu olmamalı; iptal edilen slot yeniden verilmemelidir (uk_vehicle_date_time).
+ *
+ * Normal test koşusunda atlanır; çalıştırmak için:
+ * mvn test -Dload=true -Dtest=BookingLoadTest [-Dload.users=2000 -Dload.iterations=3]
+ */
+// Test profili şablon önbelleğini kapatır; yük altında prod gibi önbellekli render ölçülür
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.thymeleaf.cache=true")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "load", matches = "true")
+@DisplayName("Load Tests - Booking Flow")
+class BookingLoadTest extends LiveServerTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 2000);
+    private static final int ITERATIONS = Integer.getInteger("load.iterations", 3);
+    private static final int VEHICLES = Integer.getInteger("load.vehicles", 20);
+    private static final int DAYS = Integer.getInteger("load.days", 3);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("load.warmup", 500);
+
+    // Talebin yüzde 80'i ilk 3 araca ve 2 saate (10:00, 14:00) gider
+    private static final int HOT_VEHICLES = 3;
+    private static final List<LocalTime> HOT_TIMES = List.of(LocalTime.of(10, 0), LocalTime.of(14, 0));
+    private static final double HOT_RATIO = 0.8;
+
+    // Turların yüzde 20'sinde kullanıcı bir randevusunu iptal eder
+    private static final double CANCEL_RATIO = 0.2;
+
+    private static final String CONFLICT_MESSAGE = "zaten rezerve";
+    private static final Pattern CANCEL_ACTION = Pattern.compile("/appointments/(\\d+)/cancel");
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    private final List<Vehicle> vehicles = new ArrayList<>();
+    private List<LocalTime> timeSlots;
+
+    // Ölçümler
+    private final Latencies listingLatencies = new Latencies();
+    private final Latencies bookingLatencies = new Latencies();
+    private final Latencies myAppointmentsLatencies = new Latencies();
+    private final Latencies cancelLatencies = new Latencies();
+    private final AtomicLong booked = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+
+    // İstemci tarafında başarılı dönen randevular: "aracId_tarih_saat" -> adet
+    private final Map<String, AtomicInteger> bookedSlots = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < VEHICLES; i++) {
+            vehicles.add(createVehicle("Load", "Vehicle-" + i));
+        }
+        timeSlots = appointmentService.getTimeSlots();
+    }
+
+    @Test
+    @DisplayName("LOAD-01: Sıcak slotlara eşzamanlı randevu - kapasite aşılmamalı")
+    void bookingFlow_UnderContention_ShouldNeverOverbook() {
+        warmUp();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> users = new ArrayList<>(USERS);
+        for (int user = 0; user < USERS; user++) {
+            users.add(session(user));
+        }
+        CompletableFuture.allOf(users.toArray(CompletableFuture[]::new)).join();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        report(seconds);
+
+        // Then - tüm istekler beklenen yanıtı almalı
+        assertTrue(errors.isEmpty(), () -> errors.size() + " hatalı istek, örnek: "
+                + errors.stream().limit(5).collect(Collectors.joining(" | ")));
+        long attempts = (long) USERS * ITERATIONS;
+        assertEquals(attempts, booked.get() + conflicts.get());
+
+        // Then - istemci hiçbir slot için birden fazla onay almamalı
+        bookedSlots.forEach((slot, count) ->
+                assertEquals(1, count.get(), "Slot birden fazla kez rezerve edildi: " + slot));
+
+        // Then - veritabanında her slotta, durumdan bağımsız (iptal dahil), en fazla bir randevu
+        String vehicleIds = vehicles.stream().map(v -> v.getId().toString()).collect(Collectors.joining(","));
+        List<Map<String, Object>> overbooked = jdbcTemplate.queryForList(
+                "SELECT vehicle_id, appointment_date, appointment_time, COUNT(*) AS total FROM appointments"
+                        + " WHERE vehicle_id IN (" + vehicleIds + ")"
+                        + " GROUP BY vehicle_id, appointment_date, appointment_time HAVING COUNT(*) > 1");
+        assertTrue(overbooked.isEmpty(), "Kapasitesi aşılan slotlar: " + overbooked);
+
+        // Then - kayıtlı her slot istemcinin onay aldığı slotlardan biri (iptal edilen slot yeniden verilmedi)
+        Set<String> storedSlots = new HashSet<>(jdbcTemplate.query(
+                "SELECT vehicle_id, appointment_date, appointment_time FROM appointments"
+                        + " WHERE vehicle_id IN (" + vehicleIds + ")",
+                (rs, row) -> rs.getLong("vehicle_id") + "_" + rs.getObject("appointment_date", LocalDate.class)
+                        + "_" + rs.getObject("appointment_time", LocalTime.class)));
+        assertEquals(bookedSlots.keySet(), storedSlots);
+
+        // Then - iptaller kayıtlı
+        Long storedCancelled = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM appointments WHERE vehicle_id IN (" + vehicleIds + ")"
+                        + " AND status = 'CANCELLED'", Long.class);
+        assertEquals(cancelled.get(), storedCancelled);
+    }
+
+    /**
+     * Tek sanal kullanıcının oturumu: ITERATIONS tur, istekler sırayla
+     */
+    private CompletableFuture<Void> session(int user) {
+        SplittableRandom random = new SplittableRandom(user);
+        String phone = String.format("05%09d", user);
+        CompletableFuture<Void> session = CompletableFuture.completedFuture(null);
+        for (int i = 0; i < ITERATIONS; i++) {
+            session = session
+                    .thenCompose(v -> send(listingLatencies, get("/vehicles"), HttpResponse.BodyHandlers.discarding()))
+                    .thenCompose(v -> book(random, user, phone))
+                    .thenCompose(v -> send(myAppointmentsLatencies,
+                            get("/appointments/my?phone=" + phone), HttpResponse.BodyHandlers.ofString()))
+                    .thenCompose(response -> {
+                        expectOk("GET /appointments/my", response);
+                        boolean cancel = random.nextDouble() < CANCEL_RATIO;
+                        return cancel && response != null ? cancelFirstActive(response.body())
+                                : CompletableFuture.<Void>completedFuture(null);
+                    });
+        }
+        return session;
+    }
+
+    /**
+     * Randevularım sayfasındaki ilk aktif randevuyu iptal et (aktif randevu yoksa bir şey yapmaz)
+     */
+    private CompletableFuture<Void> cancelFirstActive(String myAppointmentsPage) {
+        Matcher action = CANCEL_ACTION.matcher(myAppointmentsPage);
+        if (!action.find()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri(action.group()))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return send(cancelLatencies, request, HttpResponse.BodyHandlers.discarding()).thenApply(response -> {
+            if (response != null && response.statusCode() == 302) {
+                cancelled.incrementAndGet();
+            } else if (response != null) {
+                errors.add("POST " + action.group() + " -> HTTP " + response.statusCode());
+            }
+            return null;
+        });
+    }
+
+    private CompletableFuture<Void> book(SplittableRandom random, int user, String phone) {
+        Vehicle vehicle = random.nextDouble() < HOT_RATIO
+                ? vehicles.get(random.nextInt(HOT_VEHICLES))
+                : vehicles.get(HOT_VEHICLES + random.nextInt(VEHICLES - HOT_VEHICLES));
+        LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(DAYS));
+        LocalTime time = random.nextDouble() < HOT_RATIO
+                ? HOT_TIMES.get(random.nextInt(HOT_TIMES.size()))
+                : timeSlots.get(random.nextInt(timeSlots.size()));
+        String slot = vehicle.getId() + "_" + date + "_" + time;
+
+        String form = "vehicleId=" + vehicle.getId()
+                + "&customerName=" + encode("Yük Kullanıcı " + user)
+                + "&customerPhone=" + phone
+                + "&appointmentDate=" + date
+                + "&appointmentTime=" + time;
+        HttpRequest request = HttpRequest.newBuilder(uri("/appointments"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+
+        return send(bookingLatencies, request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            if (response == null) {
+                return null;
+            }
+            String location = response.headers().firstValue("Location").orElse("");
+            if (response.statusCode() == 302 && location.endsWith("/appointments/success")) {
+                booked.incrementAndGet();
+                bookedSlots.computeIfAbsent(slot, s -> new AtomicInteger()).incrementAndGet();
+            } else if (response.statusCode() == 200 && response.body().contains(CONFLICT_MESSAGE)) {
+                conflicts.incrementAndGet();
+            } else {
+                errors.add("POST /appointments " + slot + " -> HTTP " + response.statusCode());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * İsteği gönder ve gecikmeyi kaydet; bağlantı hatasında null döner (hata listesine eklenir)
+     */
+    private <T> CompletableFuture<HttpResponse<T>> send(Latencies latencies, HttpRequest request,
+            HttpResponse.BodyHandler<T> handler) {
+        long start = System.nanoTime();
+        return client.sendAsync(request, handler).handle((response, failure) -> {
+            latencies.record(System.nanoTime() - start);
+            if (failure != null) {
+                errors.add(request.method() + " " + request.uri().getPath() + " -> " + failure);
+                return null;
+            }
+            return response;
+        });
+    }
+
+    private void expectOk(String name, HttpResponse<?> response) {
+        if (response != null && response.statusCode() != 200) {
+            errors.add(name + " -> HTTP " + response.statusCode());
+        }
+    }
+
+    /**
+     * JIT ve bağlantı havuzunu ısıt (yalnızca okuma istekleri, ölçüme dahil değil)
+     */
+    private void warmUp() {
+        Latencies ignored = new Latencies();
+        List<CompletableFuture<Void>> requests = new ArrayList<>(WARMUP_REQUESTS);
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            HttpRequest request = i % 2 == 0 ? get("/vehicles") : get("/appointments/my?phone=05000000000");
+            requests.add(send(ignored, request, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> {
+                        expectOk("warmup " + request.uri().getPath(), response);
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void report(double seconds) {
+        long attempts = booked.get() + conflicts.get();
+        long requests = listingLatencies.count() + bookingLatencies.count() + myAppointmentsLatencies.count()
+                + cancelLatencies.count();
+        report("load", "%d kullanıcı x %d tur, %d araç (%d sıcak), %d gün",
+                USERS, ITERATIONS, VEHICLES, HOT_VEHICLES, DAYS);
+        report("load", "%d istek / %.1f sn: %.1f istek/sn", requests, seconds, requests / seconds);
+        report("load", "%-22s %s", "GET /vehicles", listingLatencies.summary());
+        report("load", "%-22s %s", "POST /appointments", bookingLatencies.summary());
+        report("load", "%-22s %s", "GET /appointments/my", myAppointmentsLatencies.summary());
+        report("load", "%-22s %s", "POST .../cancel", cancelLatencies.summary());
+        report("load", "randevu: %d deneme, %d başarılı, %d çakışma (%.1f%%), %d iptal, %d hata",
+                attempts, booked.get(), conflicts.get(),
+                attempts == 0 ? 0.0 : 100.0 * conflicts.get() / attempts, cancelled.get(), errors.size());
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * İstek gecikmeleri (ns); yüzdelikler test sonunda sıralanarak hesaplanır
+     */
+    private static final class Latencies {
+
+        private final ConcurrentLinkedQueue<Long> samples = new ConcurrentLinkedQueue<>();
+
+        void record(long nanos) {
+            samples.add(nanos);
+        }
+
+        long count() {
+            return samples.size();
+        }
+
+        String summary() {
+            long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            if (sorted.length == 0) {
+                return "ölçüm yok";
+            }
+            return String.format("n=%d p50=%s p95=%s p99=%s max=%s",
+                    sorted.length, millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+                    millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]));
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)];
+        }
+
+        private static String millis(long nanos) {
+            return String.format("%.1fms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.rentacar.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate'in ürettiği SQL'i yakalayan StatementInspector (test yardımcısı)
+ * Etkinleştirmek için:
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector=com.rentacar.support.CapturedStatements
+ *
+ * Yakalanan SQL thread başına tutulur; EXPLAIN ile uygulamanın gerçekten
+ * çalıştırdığı sorgunun planı incelenebilir.
+ */
+public class CapturedStatements implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    /**
+     * İşlem sırasında üretilen son SELECT
+     */
+    public static String lastSelect(Runnable action) {
+        List<String> statements = STATEMENTS.get();
+        statements.clear();
+        action.run();
+        for (int i = statements.size() - 1; i >= 0; i--) {
+            if (statements.get(i).trim().toLowerCase().startsWith("select")) {
+                return statements.get(i);
+            }
+        }
+        throw new IllegalStateException("SELECT çalışmadı: " + statements);
+    }
+}
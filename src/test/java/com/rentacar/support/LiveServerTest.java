@@ -0,0 +1,70 @@
+package com.rentacar.support;
+
+import com.rentacar.model.Vehicle;
+import com.rentacar.service.VehicleService;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gerçek Tomcat (RANDOM_PORT) üzerinde HTTP ile çalışan benchmark ve yük testlerinin ortak iskeleti
+ * - Test araçlarını oluşturur; test sonunda randevularıyla birlikte siler
+ * - Paylaşılan HTTP/1.1 istemcisi ve sunucu URI'leri
+ * - Rapor satırları "[etiket] ..." biçiminde standart çıktıya yazılır
+ */
+public abstract class LiveServerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    protected final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    private final List<Vehicle> vehicles = new ArrayList<>();
+
+    /**
+     * Test sonunda silinecek bir araç oluştur
+     */
+    protected Vehicle createVehicle(String brand, String model) {
+        Vehicle vehicle = vehicleService.createVehicle(new Vehicle(brand, model, 2024));
+        vehicles.add(vehicle);
+        return vehicle;
+    }
+
+    @AfterEach
+    protected void deleteVehicles() {
+        for (Vehicle vehicle : vehicles) {
+            jdbcTemplate.update("DELETE FROM appointments WHERE vehicle_id = ?", vehicle.getId());
+            vehicleService.deleteVehicle(vehicle.getId());
+        }
+        vehicles.clear();
+    }
+
+    protected HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    protected URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    protected static void report(String tag, String format, Object... args) {
+        System.out.printf("[" + tag + "] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,52 @@
+package com.rentacar.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JDBC statement sayacı (test yardımcısı)
+ * Hibernate istatistiklerindeki prepareStatementCount farkıyla bir işlemin
+ * kaç SQL çalıştırdığını ölçer; hibernate.generate_statistics=true gerektirir.
+ *
+ * Ölçümden önce persistence context boşaltılır: test transaction'ında
+ * kaydedilen entity'ler birinci seviye önbellekten gelip N+1'i gizlemesin.
+ */
+public class SqlStatementCounter {
+
+    private final Statistics statistics;
+    private final EntityManager entityManager;
+
+    public SqlStatementCounter(EntityManagerFactory entityManagerFactory, EntityManager entityManager) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.entityManager = entityManager;
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("hibernate.generate_statistics kapalı");
+        }
+    }
+
+    /**
+     * İşlem sırasında çalışan statement sayısı
+     */
+    public long count(Executable action) throws Throwable {
+        entityManager.flush();
+        entityManager.clear();
+        long before = statistics.getPrepareStatementCount();
+        action.execute();
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    /**
+     * İşlem bütçeyi aşarsa testi düşür
+     */
+    public long assertWithinBudget(String name, long budget, Executable action) throws Throwable {
+        long statements = count(action);
+        assertTrue(statements <= budget,
+                () -> name + ": " + statements + " SQL statement çalıştı, bütçe " + budget + " (N+1?)");
+        return statements;
+    }
+}
@@ -2,17 +2,24 @@ package com.rentacar.ui;
 
 import com.rentacar.model.Vehicle;
 import com.rentacar.repository.VehicleRepository;
+import com.rentacar.service.AppointmentService;
+import com.rentacar.service.CatalogVersion;
+import com.rentacar.service.ImageVariantService;
 import com.rentacar.service.VehicleService;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -41,15 +48,40 @@ class MockMvcUITest {
     @Autowired
     private VehicleService vehicleService;
 
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ResourceUrlProvider resourceUrlProvider;
+
     private Vehicle testVehicle;
 
     @BeforeEach
     void setUp() {
         testVehicle = new Vehicle("BMW", "X5", 2024);
         testVehicle.setDescription("Test araç");
+        testVehicle.setImageUrl("/images/bmwM3.jpg");
         testVehicle = vehicleRepository.save(testVehicle);
     }
 
+    @AfterEach
+    void tearDown() {
+        // Transaction'sız testler (toplu randevu parçaları kendi transaction'ında commit eder) kendi verisini siler
+        if (!TestTransaction.isActive()) {
+            jdbcTemplate.update("DELETE FROM appointments WHERE vehicle_id = ?", testVehicle.getId());
+            vehicleRepository.deleteById(testVehicle.getId());
+        }
+    }
+
     // ==================== ANA SAYFA TESTLERİ ====================
 
     @Test
@@ -266,4 +298,189 @@ class MockMvcUITest {
                 .andExpect(status().isOk())
                 .andExpect(model().attribute("selectedStatus", "PENDING"));
     }
+
+    // ==================== MÜSAİTLİK MATRİSİ TESTLERİ ====================
+
+    @Test
+    @Order(19)
+    @DisplayName("UI-19: Müsaitlik matrisi JSON olarak dönmeli")
+    void availabilityMatrix_ShouldReturnJson() throws Exception {
+        java.time.LocalDate start = java.time.LocalDate.now().plusDays(1);
+        mockMvc.perform(get("/appointments/availability")
+                .param("vehicleIds", testVehicle.getId().toString())
+                .param("start", start.toString())
+                .param("end", start.plusDays(6).toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.slots", hasSize(10)))
+                .andExpect(jsonPath("$.vehicles." + testVehicle.getId(), hasSize(7)));
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("UI-20: Ters tarih aralığı ile müsaitlik matrisi 400 dönmeli")
+    void availabilityMatrix_InvalidRange_ShouldReturnBadRequest() throws Exception {
+        java.time.LocalDate start = java.time.LocalDate.now().plusDays(3);
+        mockMvc.perform(get("/appointments/availability")
+                .param("start", start.toString())
+                .param("end", start.minusDays(1).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(21)
+    @WithMockUser(roles = "ADMIN")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("UI-21: Admin toplu randevu kalem bazında sonuç dönmeli")
+    void adminBatchBooking_ShouldReturnPerItemResults() throws Exception {
+        String date = java.time.LocalDate.now().plusDays(2).toString();
+        String item = "{\"vehicleId\":" + testVehicle.getId()
+                + ",\"customerName\":\"Fleet\",\"customerPhone\":\"05551234567\""
+                + ",\"appointmentDate\":\"" + date + "\",\"appointmentTime\":\"11:00\"}";
+
+        mockMvc.perform(post("/admin/appointments/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + item + "," + item + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status", is("BOOKED")))
+                .andExpect(jsonPath("$[1].status", is("CONFLICT")));
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("UI-22: Toplu randevu auth gerektirmeli")
+    void adminBatchBooking_WithoutAuth_ShouldRequireLogin() throws Exception {
+        mockMvc.perform(post("/admin/appointments/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @Order(23)
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("UI-23: Admin randevu listesi sayfalı dönmeli")
+    void adminAppointments_Paged_ShouldExposeNextCursor() throws Exception {
+        java.time.LocalDate date = java.time.LocalDate.now().plusDays(3);
+        for (int hour = 9; hour <= 11; hour++) {
+            appointmentService.createAppointment(testVehicle.getId(), "Paged", "05551234567", null,
+                    date, java.time.LocalTime.of(hour, 0));
+        }
+
+        mockMvc.perform(get("/admin/appointments")
+                .param("vehicleId", testVehicle.getId().toString())
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("appointments", hasSize(2)))
+                .andExpect(model().attributeExists("nextCursor"));
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("UI-24: Araç listesi facet filtreleri ile yüklenmeli")
+    void vehiclesPage_WithFacetFilter_ShouldExposeFacets() throws Exception {
+        mockMvc.perform(get("/vehicles")
+                .param("brand", "BMW")
+                .param("yearFrom", "2020")
+                .param("available", "true"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("vehicles/list"))
+                .andExpect(model().attributeExists("vehicles", "facets"));
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("UI-25: Otomatik tamamlama JSON dönmeli")
+    void autocomplete_ShouldReturnJson() throws Exception {
+        mockMvc.perform(get("/vehicles/autocomplete").param("q", "t"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("UI-26: Araç listesi değişmediyse 304 dönmeli")
+    void vehiclesPage_WithMatchingEtag_ShouldReturnNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/vehicles"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("no-cache")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/vehicles").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Order(27)
+    @DisplayName("UI-27: Katalog değişince araç detayı yeniden üretilmeli")
+    void vehicleDetail_AfterCatalogChange_ShouldReturnOk() throws Exception {
+        String etag = mockMvc.perform(get("/vehicles/" + testVehicle.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        catalogVersion.bump();
+
+        mockMvc.perform(get("/vehicles/" + testVehicle.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(view().name("vehicles/detail"));
+    }
+
+    @Test
+    @Order(28)
+    @DisplayName("UI-28: Araç kartları srcset ile render edilmeli")
+    void vehiclesPage_ShouldRenderResponsiveImages() throws Exception {
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("srcset=\"/images/v/")));
+    }
+
+    @Test
+    @Order(29)
+    @DisplayName("UI-29: Görsel varyantı immutable önbellek başlığı ile dönmeli")
+    void imageVariant_ShouldBeServedImmutable() throws Exception {
+        String url = imageVariantService.variantUrl("/images/bmwM3.jpg", 320).orElseThrow();
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+                .andExpect(header().string("Cache-Control", containsString("immutable")));
+
+        mockMvc.perform(get("/images/v/bmwM3-320-000000000000.jpg"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(30)
+    @DisplayName("UI-30: Stil dosyası içerik özetli URL ile bağlanmalı")
+    void homePage_ShouldLinkFingerprintedStylesheet() throws Exception {
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(matchesPattern("(?s).*/css/style-[0-9a-f]{32}\\.css.*")));
+    }
+
+    @Test
+    @Order(31)
+    @DisplayName("UI-31: Parmak izli stil dosyası önceden sıkıştırılmış ve uzun önbellekli servis edilmeli")
+    void stylesheet_ShouldBeServedPrecompressed() throws Exception {
+        String stylesheet = resourceUrlProvider.getForLookupPath("/css/style.css");
+
+        mockMvc.perform(get(stylesheet).header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+                .andExpect(header().string("Cache-Control", containsString("max-age=31536000")));
+    }
+
+    @Test
+    @Order(32)
+    @DisplayName("UI-32: Parmak izsiz statik URL'ler kısa süre önbelleklenmeli")
+    void unversionedResources_ShouldUseShortCache() throws Exception {
+        mockMvc.perform(get("/css/style.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("max-age=600")));
+        mockMvc.perform(get("/images/bmwM3.jpg"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("max-age=600")));
+    }
 }
@@ -0,0 +1,214 @@
+package com.rentacar.ui;
+
+import com.rentacar.model.Appointment;
+import com.rentacar.model.AppointmentStatus;
+import com.rentacar.model.Vehicle;
+import com.rentacar.repository.AppointmentRepository;
+import com.rentacar.service.AbstractVehicleIndex;
+import com.rentacar.service.AppointmentStatisticsService;
+import com.rentacar.service.VehicleService;
+import com.rentacar.support.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Sayfa başına SQL statement bütçesi
+ *
+ * Test Seviyesi: UI TEST (MockMvc)
+ * Her sayfa gerçekçi veri hacmiyle (40 araç, 600 randevu) render edilir ve
+ * çalışan JDBC statement sayısı bütçeyle karşılaştırılır. Bütçe veri hacminden
+ * bağımsızdır; aşılıyorsa büyük ihtimalle bir N+1 (ör. apt.vehicle.fullName) eklenmiştir.
+ *
+ * Önbellekler her ölçümden önce boşaltılır: bütçe soğuk önbellekteki en kötü durumdur.
+ * Araç indeksleri ve dashboard sayıları commit sonrası olaylarla beslenir; test transaction'ı
+ * commit edilmediği için tohumlamadan sonra elle, geri alma sonrasında yeniden yüklenir.
+ * Her ölçüm sayfanın veriyi gerçekten gösterdiğini de doğrular (boş sayfa bütçeyi boşuna geçer).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("SQL Statement Budget Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SqlStatementBudgetTest {
+
+    private static final int VEHICLES = 40;
+    private static final int APPOINTMENTS = 600;
+    private static final int SLOTS_PER_DAY = 10;
+
+    // Müşteri başına randevu sayısı (/appointments/my)
+    private static final int APPOINTMENTS_PER_CUSTOMER = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private List<AbstractVehicleIndex> vehicleIndexes;
+
+    @Autowired
+    private AppointmentStatisticsService statisticsService;
+
+    private SqlStatementCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SqlStatementCounter(entityManagerFactory, entityManager);
+
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (int i = 0; i < VEHICLES; i++) {
+            Vehicle vehicle = new Vehicle("Marka" + (i % 8), "Model" + i, 2015 + i % 10);
+            vehicle.setDescription("Bütçe testi aracı " + i);
+            vehicle.setImageUrl("/images/bmwM3.jpg");
+            vehicles.add(vehicle);
+        }
+        vehicles = vehicleService.createVehicles(vehicles);
+
+        // Her araç kendi slotlarını kullanır; bugünden başlayarak gün gün dolar
+        List<Appointment> appointments = new ArrayList<>();
+        AppointmentStatus[] statuses = AppointmentStatus.values();
+        for (int i = 0; i < APPOINTMENTS; i++) {
+            Vehicle vehicle = vehicles.get(i % VEHICLES);
+            int slot = i / VEHICLES;
+            Appointment appointment = new Appointment(vehicle, "Müşteri " + i,
+                    phone(i % (APPOINTMENTS / APPOINTMENTS_PER_CUSTOMER)),
+                    LocalDate.now().plusDays(slot / SLOTS_PER_DAY), LocalTime.of(9 + slot % SLOTS_PER_DAY, 0));
+            appointment.setCustomerEmail("musteri" + i + "@test.com");
+            appointment.setStatus(statuses[i % statuses.length]);
+            appointments.add(appointment);
+        }
+        appointmentRepository.saveAll(appointments);
+        appointmentRepository.flush();
+
+        reloadInMemoryState();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @AfterTransaction
+    void restoreInMemoryState() {
+        // Geri alınan tohum verisi diğer testlerin indekslerinde kalmasın
+        reloadInMemoryState();
+    }
+
+    private void reloadInMemoryState() {
+        vehicleIndexes.forEach(AbstractVehicleIndex::load);
+        statisticsService.load();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("SQL-01: Ana sayfa bütçe içinde kalmalı")
+    void homePage_ShouldStayWithinBudget() throws Throwable {
+        counter.assertWithinBudget("GET /", 1, () -> mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("vehicles", hasSize(greaterThanOrEqualTo(VEHICLES))))
+                .andExpect(vehicleCards(greaterThanOrEqualTo(VEHICLES))));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("SQL-02: Araç listesi bütçe içinde kalmalı")
+    void vehiclesPage_ShouldStayWithinBudget() throws Throwable {
+        counter.assertWithinBudget("GET /vehicles", 1, () -> mockMvc.perform(get("/vehicles"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("vehicles", hasSize(VehicleService.DEFAULT_PAGE_SIZE)))
+                .andExpect(vehicleCards(equalTo(VehicleService.DEFAULT_PAGE_SIZE))));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("SQL-03: Randevularım sayfası bütçe içinde kalmalı")
+    void myAppointmentsPage_ShouldStayWithinBudget() throws Throwable {
+        counter.assertWithinBudget("GET /appointments/my", 1,
+                () -> mockMvc.perform(get("/appointments/my").param("phone", phone(0)))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @Order(4)
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("SQL-04: Admin dashboard bütçe içinde kalmalı")
+    void adminDashboard_ShouldStayWithinBudget() throws Throwable {
+        // 400 randevu bugüne düşer (araç başına ilk 10 slot)
+        counter.assertWithinBudget("GET /admin", 3, () -> mockMvc.perform(get("/admin"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("totalCount", greaterThanOrEqualTo((long) APPOINTMENTS)))
+                .andExpect(model().attribute("pendingCount",
+                        greaterThanOrEqualTo((long) APPOINTMENTS / AppointmentStatus.values().length)))
+                .andExpect(model().attribute("todayCount", greaterThanOrEqualTo((long) VEHICLES * SLOTS_PER_DAY))));
+    }
+
+    @Test
+    @Order(5)
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("SQL-05: Admin randevu listesi bütçe içinde kalmalı")
+    void adminAppointmentsPage_ShouldStayWithinBudget() throws Throwable {
+        counter.assertWithinBudget("GET /admin/appointments", 1, () -> mockMvc.perform(get("/admin/appointments"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("SQL-06: Sayaç lazy ilişki kaynaklı N+1'i yakalamalı")
+    void counter_LazyVehicleAccess_ShouldCountExtraStatements() throws Throwable {
+        // When: araç ilişkisi fetch edilmeden randevu listesi üzerinde gezinme
+        long statements = counter.count(() -> appointmentRepository.findByAppointmentDate(LocalDate.now())
+                .forEach(appointment -> appointment.getVehicle().getFullName()));
+
+        // Then: 1 liste sorgusu + araç başına 1 sorgu
+        assertTrue(statements > VEHICLES, "N+1 sayılmadı: " + statements);
+    }
+
+    // Render edilen araç kartı sayısı
+    private static ResultMatcher vehicleCards(Matcher<Integer> expected) {
+        return result -> {
+            String html = result.getResponse().getContentAsString();
+            int cards = html.split("class=\"vehicle-card\"", -1).length - 1;
+            assertThat("araç kartı sayısı", cards, expected);
+        };
+    }
+
+    private static String phone(int customer) {
+        return String.format("0555%07d", customer);
+    }
+}
@@ -10,6 +10,9 @@ import com.rentacar.model.Vehicle;
 import com.rentacar.repository.AppointmentRepository;
 import com.rentacar.repository.VehicleRepository;
 import com.rentacar.service.AppointmentService;
+import com.rentacar.service.BookingMetrics;
+import com.rentacar.service.SlotOccupancyIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,7 +20,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -50,6 +56,15 @@ class AppointmentServiceTest {
     @Mock
     private VehicleRepository vehicleRepository;
 
+    @Mock
+    private SlotOccupancyIndex slotOccupancyIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private BookingMetrics bookingMetrics = new BookingMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private AppointmentService appointmentService;
 
@@ -80,10 +95,7 @@ class AppointmentServiceTest {
         @DisplayName("UT-01: Geçerli randevu başarıyla oluşturulmalı")
         void createAppointment_ValidData_ShouldSucceed() {
             // Given
-            when(appointmentRepository.existsByVehicleIdAndAppointmentDateAndAppointmentTime(
-                    anyLong(), any(LocalDate.class), any(LocalTime.class)))
-                    .thenReturn(false);
-            when(appointmentRepository.save(any(Appointment.class)))
+            when(appointmentRepository.saveAndFlush(any(Appointment.class)))
                     .thenReturn(testAppointment);
 
             // When
@@ -92,7 +104,9 @@ class AppointmentServiceTest {
             // Then
             assertNotNull(result);
             assertEquals(AppointmentStatus.PENDING, result.getStatus());
-            verify(appointmentRepository, times(1)).save(any(Appointment.class));
+            verify(appointmentRepository, times(1)).saveAndFlush(any(Appointment.class));
+            verify(appointmentRepository, never())
+                    .existsByVehicleIdAndAppointmentDateAndAppointmentTime(any(), any(), any());
         }
 
         @Test
@@ -184,9 +198,10 @@ class AppointmentServiceTest {
         @DisplayName("UT-07: Çakışan randevu oluşturulamamalı - AppointmentConflictException")
         void createAppointment_ConflictingTime_ShouldThrowException() {
             // Given
-            when(appointmentRepository.existsByVehicleIdAndAppointmentDateAndAppointmentTime(
-                    anyLong(), any(LocalDate.class), any(LocalTime.class)))
-                    .thenReturn(true); // Çakışma var!
+            when(slotOccupancyIndex.covers(anyLong(), any(LocalDate.class), any(LocalTime.class)))
+                    .thenReturn(true);
+            when(slotOccupancyIndex.tryReserve(anyLong(), any(LocalDate.class), any(LocalTime.class)))
+                    .thenReturn(false); // Çakışma var!
 
             // When & Then
             AppointmentConflictException exception = assertThrows(
@@ -194,7 +209,23 @@ class AppointmentServiceTest {
                     () -> appointmentService.createAppointment(testAppointment));
 
             assertTrue(exception.getMessage().contains("zaten rezerve"));
-            verify(appointmentRepository, never()).save(any());
+            verify(appointmentRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("UT-09: Unique kısıt ihlali çakışma olarak raporlanmalı - AppointmentConflictException")
+        void createAppointment_UniqueKeyViolation_ShouldThrowConflict() {
+            // Given
+            when(appointmentRepository.saveAndFlush(any(Appointment.class)))
+                    .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                            new RuntimeException("Unique index or primary key violation: "
+                                    + "\"PUBLIC.UK_VEHICLE_DATE_TIME_INDEX_2 ON PUBLIC.APPOINTMENTS\"")));
+
+            // When & Then
+            assertThrows(
+                    AppointmentConflictException.class,
+                    () -> appointmentService.createAppointment(testAppointment));
+            verify(slotOccupancyIndex, never()).markOccupied(any(), any(), any());
         }
 
         @Test
@@ -338,40 +369,111 @@ class AppointmentServiceTest {
         @DisplayName("CONF-01: Aynı araç farklı tarih - Çakışma olmamalı")
         void validateNoConflict_SameVehicleDifferentDate_ShouldPass() {
             // Given
-            when(appointmentRepository.existsByVehicleIdAndAppointmentDateAndAppointmentTime(
-                    anyLong(), any(LocalDate.class), any(LocalTime.class)))
-                    .thenReturn(false);
+            LocalDate date = LocalDate.now().plusDays(2);
+            LocalTime time = LocalTime.of(10, 0);
+            when(slotOccupancyIndex.covers(1L, date, time)).thenReturn(true);
+            when(slotOccupancyIndex.tryReserve(1L, date, time)).thenReturn(true);
 
             // When & Then
-            assertDoesNotThrow(
-                    () -> appointmentService.validateNoConflict(1L, LocalDate.now().plusDays(1), LocalTime.of(10, 0)));
+            assertTrue(appointmentService.validateNoConflict(1L, date, time));
         }
 
         @Test
         @DisplayName("CONF-02: Aynı araç aynı tarih farklı saat - Çakışma olmamalı")
         void validateNoConflict_SameVehicleSameDateDifferentTime_ShouldPass() {
             // Given
-            when(appointmentRepository.existsByVehicleIdAndAppointmentDateAndAppointmentTime(
-                    anyLong(), any(LocalDate.class), any(LocalTime.class)))
-                    .thenReturn(false);
+            LocalDate date = LocalDate.now().plusDays(1);
+            LocalTime time = LocalTime.of(14, 0);
+            when(slotOccupancyIndex.covers(1L, date, time)).thenReturn(true);
+            when(slotOccupancyIndex.tryReserve(1L, date, time)).thenReturn(true);
 
             // When & Then
-            assertDoesNotThrow(
-                    () -> appointmentService.validateNoConflict(1L, LocalDate.now().plusDays(1), LocalTime.of(14, 0)));
+            assertTrue(appointmentService.validateNoConflict(1L, date, time));
         }
 
         @Test
-        @DisplayName("CONF-03: Aynı araç aynı tarih aynı saat - Çakışma olmalı")
+        @DisplayName("CONF-03: Aynı araç aynı tarih aynı saat - Veritabanına gitmeden çakışma olmalı")
         void validateNoConflict_ExactMatch_ShouldThrow() {
             // Given
-            when(appointmentRepository.existsByVehicleIdAndAppointmentDateAndAppointmentTime(
-                    eq(1L), any(LocalDate.class), eq(LocalTime.of(10, 0))))
-                    .thenReturn(true);
+            LocalDate date = LocalDate.now().plusDays(1);
+            LocalTime time = LocalTime.of(10, 0);
+            when(slotOccupancyIndex.covers(1L, date, time)).thenReturn(true);
+            when(slotOccupancyIndex.tryReserve(1L, date, time)).thenReturn(false);
 
             // When & Then
             assertThrows(
                     AppointmentConflictException.class,
-                    () -> appointmentService.validateNoConflict(1L, LocalDate.now().plusDays(1), LocalTime.of(10, 0)));
+                    () -> appointmentService.validateNoConflict(1L, date, time));
+            verify(appointmentRepository, never())
+                    .existsByVehicleIdAndAppointmentDateAndAppointmentTime(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("CONF-04: İndeks kapsamıyorsa sorgu yapılmamalı, karar veritabanı kısıtına kalmalı")
+        void validateNoConflict_NotCovered_ShouldDeferToConstraint() {
+            // Given
+            LocalDate date = LocalDate.now().plusDays(1);
+            LocalTime time = LocalTime.of(10, 0, 30);
+            when(slotOccupancyIndex.covers(1L, date, time)).thenReturn(false);
+
+            // When & Then
+            assertFalse(appointmentService.validateNoConflict(1L, date, time));
+            verify(slotOccupancyIndex, never()).tryReserve(any(), any(), any());
+            verify(appointmentRepository, never())
+                    .existsByVehicleIdAndAppointmentDateAndAppointmentTime(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("CONF-05: Oluşturulan randevu slot indeksinde işaretlenmeli")
+        void createAppointment_ShouldMarkSlotInIndex() {
+            // Given
+            when(appointmentRepository.saveAndFlush(any(Appointment.class))).thenReturn(testAppointment);
+
+            // When
+            appointmentService.createAppointment(testAppointment);
+
+            // Then
+            verify(slotOccupancyIndex).markOccupied(
+                    1L, testAppointment.getAppointmentDate(), testAppointment.getAppointmentTime());
+        }
+    }
+
+    // ==================== REQUEST LIMIT TESTS ====================
+
+    @Nested
+    @DisplayName("Sınır Değer Analizi (BVA) - İstek Limitleri")
+    class RequestLimitTests {
+
+        @Test
+        @DisplayName("LIM-01: Sayfa boyutu üst sınıra çekilmeli")
+        void getAppointmentPage_OversizedPage_ShouldClampToMax() {
+            // When
+            appointmentService.getAppointmentPage(null, null, null, null, null, 10_000);
+
+            // Then - bir fazla satır okunur
+            verify(appointmentRepository).findPage(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                    isNull(), argThat(limit -> limit.max() == AppointmentService.MAX_PAGE_SIZE + 1));
+        }
+
+        @Test
+        @DisplayName("LIM-02: Toplu istek 1 - MAX_BATCH_SIZE kalem kabul edilmeli")
+        void isValidBatchSize_ShouldAcceptBounds() {
+            assertFalse(appointmentService.isValidBatchSize(0));
+            assertTrue(appointmentService.isValidBatchSize(1));
+            assertTrue(appointmentService.isValidBatchSize(AppointmentService.MAX_BATCH_SIZE));
+            assertFalse(appointmentService.isValidBatchSize(AppointmentService.MAX_BATCH_SIZE + 1));
+        }
+
+        @Test
+        @DisplayName("LIM-03: Müsaitlik aralığı en fazla MAX_AVAILABILITY_DAYS gün olmalı")
+        void isValidAvailabilityRange_ShouldAcceptBounds() {
+            LocalDate start = LocalDate.of(2030, 1, 1);
+            int days = AppointmentService.MAX_AVAILABILITY_DAYS;
+
+            assertTrue(appointmentService.isValidAvailabilityRange(start, start));
+            assertTrue(appointmentService.isValidAvailabilityRange(start, start.plusDays(days - 1)));
+            assertFalse(appointmentService.isValidAvailabilityRange(start, start.plusDays(days)));
+            assertFalse(appointmentService.isValidAvailabilityRange(start, start.minusDays(1)));
         }
     }
 }
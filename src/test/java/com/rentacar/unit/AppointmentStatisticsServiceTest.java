@@ -0,0 +1,148 @@
+package com.rentacar.unit;
+
+import com.rentacar.dto.DashboardStatistics;
+import com.rentacar.event.AppointmentChangedEvent;
+import com.rentacar.model.AppointmentStatus;
+import com.rentacar.repository.AppointmentRepository;
+import com.rentacar.service.AppointmentStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * AppointmentStatisticsService Unit Testleri
+ *
+ * Test Seviyesi: UNIT TEST
+ * Araç: Mockito
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AppointmentStatisticsService Unit Tests")
+class AppointmentStatisticsServiceTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    private AppointmentStatisticsService statisticsService;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        statisticsService = new AppointmentStatisticsService(appointmentRepository);
+    }
+
+    @Test
+    @DisplayName("STAT-01: Yükleme sonrası sayılar gruplardan toplanmalı")
+    void load_ShouldSumGroups() {
+        // Given
+        when(appointmentRepository.countByVehicleDateAndStatus()).thenReturn(List.of(
+                statusCount(1L, today, AppointmentStatus.PENDING, 2),
+                statusCount(2L, today.plusDays(1), AppointmentStatus.CONFIRMED, 3),
+                statusCount(1L, today.minusDays(1), AppointmentStatus.CANCELLED, 4)));
+
+        // When
+        statisticsService.load();
+        DashboardStatistics statistics = statisticsService.getDashboardStatistics();
+
+        // Then
+        assertEquals(9, statistics.getTotalCount());
+        assertEquals(2, statistics.getCount(AppointmentStatus.PENDING));
+        assertEquals(2, statistics.getTodayCount());
+        assertEquals(2L, statistics.getUpcomingByVehicle().get(1L));
+        assertEquals(3L, statistics.getUpcomingByVehicle().get(2L));
+    }
+
+    @Test
+    @DisplayName("STAT-02: Durum değişikliği eski durumdan düşüp yenisine eklenmeli")
+    void onAppointmentChanged_ShouldMoveBetweenStatuses() {
+        // Given
+        when(appointmentRepository.countByVehicleDateAndStatus()).thenReturn(List.of());
+        statisticsService.load();
+
+        // When
+        statisticsService.onAppointmentChanged(AppointmentChangedEvent.created(1L, today));
+        statisticsService.onAppointmentChanged(new AppointmentChangedEvent(
+                1L, today, AppointmentStatus.PENDING, AppointmentStatus.CANCELLED));
+
+        // Then
+        DashboardStatistics statistics = statisticsService.getDashboardStatistics();
+        assertEquals(1, statistics.getTotalCount());
+        assertEquals(0, statistics.getCount(AppointmentStatus.PENDING));
+        assertEquals(1, statistics.getCount(AppointmentStatus.CANCELLED));
+        assertFalse(statistics.getUpcomingByVehicle().containsKey(1L));
+    }
+
+    @Test
+    @DisplayName("STAT-03: Yeniden yükleme servis dışı yazmaları sayılara yansıtmalı")
+    void load_Again_ShouldReconcileOutOfBandWrites() {
+        // Given - açılış yüklemesi ve bir olay
+        when(appointmentRepository.countByVehicleDateAndStatus())
+                .thenReturn(List.of(statusCount(1L, today, AppointmentStatus.PENDING, 2)))
+                .thenReturn(List.of(statusCount(1L, today, AppointmentStatus.PENDING, 1)));
+        statisticsService.load();
+        statisticsService.onAppointmentChanged(AppointmentChangedEvent.created(2L, today));
+
+        // When - iki randevu olay üretmeden (JDBC ile) silindi, ardından periyodik yükleme
+        statisticsService.load();
+
+        // Then
+        DashboardStatistics statistics = statisticsService.getDashboardStatistics();
+        assertEquals(1, statistics.getTotalCount());
+        assertEquals(1, statisticsService.getCount(AppointmentStatus.PENDING));
+        assertEquals(1, statistics.getTodayCount());
+        assertFalse(statistics.getUpcomingByVehicle().containsKey(2L));
+    }
+
+    @Test
+    @DisplayName("STAT-04: Yükleme sorgusu sürerken gelen olay yeni sayılarda kaybolmamalı")
+    void load_EventDuringQuery_ShouldApplyToNewCounts() {
+        // Given - sorgu sonucu henüz commit edilmemiş randevuyu içermez; olay sorgu sürerken gelir
+        when(appointmentRepository.countByVehicleDateAndStatus()).thenAnswer(invocation -> {
+            statisticsService.onAppointmentChanged(AppointmentChangedEvent.created(2L, today));
+            return List.of(statusCount(1L, today, AppointmentStatus.PENDING, 2));
+        });
+
+        // When
+        statisticsService.load();
+
+        // Then
+        DashboardStatistics statistics = statisticsService.getDashboardStatistics();
+        assertEquals(3, statistics.getTotalCount());
+        assertEquals(3, statistics.getTodayCount());
+        assertEquals(1L, statistics.getUpcomingByVehicle().get(2L));
+    }
+
+    private AppointmentRepository.StatusCount statusCount(Long vehicleId, LocalDate date,
+            AppointmentStatus status, long total) {
+        return new AppointmentRepository.StatusCount() {
+            @Override
+            public Long getVehicleId() {
+                return vehicleId;
+            }
+
+            @Override
+            public LocalDate getAppointmentDate() {
+                return date;
+            }
+
+            @Override
+            public AppointmentStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.rentacar.unit;
+
+import com.rentacar.config.CachingPasswordEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CachingPasswordEncoder Unit Testleri
+ *
+ * Test Seviyesi: UNIT TEST
+ * Araç: Mockito
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingPasswordEncoder Unit Tests")
+class CachingPasswordEncoderTest {
+
+    private static final String HASH = "$2a$10$hash";
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private CachingPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new CachingPasswordEncoder(delegate, Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    @DisplayName("PWD-01: Doğrulanmış parola tekrar BCrypt'e gitmemeli")
+    void matches_Repeated_ShouldVerifyOnce() {
+        // Given
+        when(delegate.matches("admin123", HASH)).thenReturn(true);
+
+        // When & Then
+        assertTrue(encoder.matches("admin123", HASH));
+        assertTrue(encoder.matches("admin123", HASH));
+        verify(delegate, times(1)).matches("admin123", HASH);
+    }
+
+    @Test
+    @DisplayName("PWD-02: Yanlış parola önbelleğe alınmamalı")
+    void matches_WrongPassword_ShouldAlwaysVerify() {
+        // Given
+        when(delegate.matches("yanlis", HASH)).thenReturn(false);
+
+        // When & Then
+        assertFalse(encoder.matches("yanlis", HASH));
+        assertFalse(encoder.matches("yanlis", HASH));
+        verify(delegate, times(2)).matches("yanlis", HASH);
+    }
+
+    @Test
+    @DisplayName("PWD-03: Saklanan hash değişince yeniden doğrulanmalı")
+    void matches_NewHash_ShouldVerifyAgain() {
+        // Given
+        when(delegate.matches("admin123", HASH)).thenReturn(true);
+        when(delegate.matches("admin123", "$2a$10$yeni")).thenReturn(false);
+        encoder.matches("admin123", HASH);
+
+        // When & Then
+        assertFalse(encoder.matches("admin123", "$2a$10$yeni"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.rentacar.unit;
+
+import com.rentacar.service.ImageVariantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ImageVariantService Unit Testleri
+ *
+ * Test Seviyesi: UNIT TEST
+ * Araç: JUnit 5 (gerçek /static/images dosyaları)
+ */
+@DisplayName("ImageVariantService Unit Tests")
+class ImageVariantServiceTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private ImageVariantService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImageVariantService(new DefaultResourceLoader(), cacheDir);
+    }
+
+    @Test
+    @DisplayName("IMG-01: Yerel fotoğraf için içerik özetli srcset üretilmeli")
+    void srcset_LocalImage_ShouldListAllWidths() {
+        // When
+        String src = service.src("/images/bmwG20.jpg");
+        String srcset = service.srcset("/images/bmwG20.jpg");
+
+        // Then
+        assertTrue(src.matches("/images/v/bmwG20-640-[0-9a-f]{12}\\.jpg"));
+        assertTrue(srcset.contains("-320-") && srcset.contains(" 320w"));
+        assertTrue(srcset.contains(src + " 640w"));
+        assertTrue(srcset.contains(" 960w"));
+    }
+
+    @Test
+    @DisplayName("IMG-02: Varyant istenen genişlikte ve kaynaktan küçük üretilmeli")
+    void variant_ShouldResizeAndCacheOnDisk() throws Exception {
+        // Given
+        String url = service.variantUrl("/images/bmwG20.jpg", 320).orElseThrow();
+        String file = url.substring(ImageVariantService.VARIANT_PATH.length());
+
+        // When
+        Path variant = service.variant(file).orElseThrow();
+
+        // Then
+        BufferedImage image = ImageIO.read(variant.toFile());
+        assertEquals(320, image.getWidth());
+        assertEquals(cacheDir.resolve(file), variant);
+        long sourceSize = new DefaultResourceLoader().getResource("classpath:/static/images/bmwG20.jpg").contentLength();
+        assertTrue(Files.size(variant) < sourceSize);
+    }
+
+    @Test
+    @DisplayName("IMG-03: Dış URL ve okunamayan biçim olduğu gibi kalmalı")
+    void src_UnsupportedImage_ShouldReturnOriginal() {
+        assertEquals("https://example.com/car.jpg", service.src("https://example.com/car.jpg"));
+        assertNull(service.srcset("https://example.com/car.jpg"));
+        assertNull(service.srcset("/images/yok.jpg"));
+    }
+
+    @Test
+    @DisplayName("IMG-04: Eski özetli veya bilinmeyen varyant bulunamamalı")
+    void variant_StaleHash_ShouldBeEmpty() {
+        assertTrue(service.variant("bmwG20-320-000000000000.jpg").isEmpty());
+        assertTrue(service.variant("bmwG20-123-000000000000.jpg").isEmpty());
+        assertTrue(service.variant("../secret.jpg").isEmpty());
+    }
+
+    @Test
+    @DisplayName("IMG-05: Çözülemeyen kaynak için varyant bulunamamalı, sayfa orijinal URL'e dönmeli")
+    void variant_UndecodableSource_ShouldFallBackToOriginal() {
+        // Given - uzantısı jpg, içeriği görsel olmayan kaynak
+        DefaultResourceLoader loader = new DefaultResourceLoader();
+        loader.addProtocolResolver((location, resourceLoader) -> location.endsWith("/bozuk.jpg")
+                ? new ByteArrayResource("görsel değil".getBytes(StandardCharsets.UTF_8))
+                : null);
+        service = new ImageVariantService(loader, cacheDir);
+        String url = service.variantUrl("/images/bozuk.jpg", 320).orElseThrow();
+
+        // When
+        Optional<Path> variant = service.variant(url.substring(ImageVariantService.VARIANT_PATH.length()));
+
+        // Then
+        assertTrue(variant.isEmpty());
+        assertEquals("/images/bozuk.jpg", service.src("/images/bozuk.jpg"));
+        assertNull(service.srcset("/images/bozuk.jpg"));
+    }
+}
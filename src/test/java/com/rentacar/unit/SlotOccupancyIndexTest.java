@@ -0,0 +1,175 @@
+package com.rentacar.unit;
+
+import com.rentacar.repository.AppointmentRepository;
+import com.rentacar.service.SlotOccupancyIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * SlotOccupancyIndex Unit Testleri
+ *
+ * Test Seviyesi: UNIT TEST
+ * Araç: Mockito
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlotOccupancyIndex Unit Tests")
+class SlotOccupancyIndexTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    private SlotOccupancyIndex index;
+
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        index = new SlotOccupancyIndex(appointmentRepository);
+    }
+
+    @Test
+    @DisplayName("IDX-01: Yüklenmemiş indeks hiçbir slotu kapsamamalı")
+    void covers_BeforeLoad_ShouldBeFalse() {
+        assertFalse(index.covers(1L, tomorrow, LocalTime.of(10, 0)));
+    }
+
+    @Test
+    @DisplayName("IDX-02: Yüklenen slot dolu görünmeli")
+    void load_ShouldMarkBookedSlots() {
+        // Given
+        AppointmentRepository.BookedSlot slot = bookedSlot(1L, tomorrow, LocalTime.of(10, 0));
+        when(appointmentRepository.findBookedSlotsFrom(any(LocalDate.class))).thenReturn(List.of(slot));
+
+        // When
+        index.load();
+
+        // Then
+        assertTrue(index.covers(1L, tomorrow, LocalTime.of(10, 0)));
+        assertTrue(index.isOccupied(1L, tomorrow, LocalTime.of(10, 0)));
+        assertFalse(index.isOccupied(1L, tomorrow, LocalTime.of(11, 0)));
+        assertFalse(index.isOccupied(2L, tomorrow, LocalTime.of(10, 0)));
+    }
+
+    @Test
+    @DisplayName("IDX-03: Dolu saatler sıralı dönmeli")
+    void occupiedTimes_ShouldReturnSortedTimes() {
+        // Given
+        when(appointmentRepository.findBookedSlotsFrom(any(LocalDate.class))).thenReturn(Collections.emptyList());
+        index.load();
+
+        // When
+        index.markOccupied(1L, tomorrow, LocalTime.of(16, 30));
+        index.markOccupied(1L, tomorrow, LocalTime.of(9, 0));
+
+        // Then
+        assertEquals(List.of(LocalTime.of(9, 0), LocalTime.of(16, 30)), index.occupiedTimes(1L, tomorrow));
+    }
+
+    @Test
+    @DisplayName("IDX-04: Geçmiş gün ve saniyeli saat kapsam dışı olmalı")
+    void covers_OutsideScope_ShouldBeFalse() {
+        // Given
+        when(appointmentRepository.findBookedSlotsFrom(any(LocalDate.class))).thenReturn(Collections.emptyList());
+        index.load();
+
+        // Then
+        assertFalse(index.covers(1L, LocalDate.now().minusDays(1), LocalTime.of(10, 0)));
+        assertFalse(index.covers(1L, tomorrow, LocalTime.of(10, 0, 30)));
+    }
+
+    @Test
+    @DisplayName("IDX-05: Aynı slot yalnızca bir kez rezerve edilebilmeli")
+    void tryReserve_SameSlotTwice_SecondShouldFail() {
+        // Given
+        when(appointmentRepository.findBookedSlotsFrom(any(LocalDate.class))).thenReturn(Collections.emptyList());
+        index.load();
+
+        // When & Then
+        assertTrue(index.tryReserve(1L, tomorrow, LocalTime.of(10, 0)));
+        assertFalse(index.tryReserve(1L, tomorrow, LocalTime.of(10, 0)));
+        assertTrue(index.tryReserve(2L, tomorrow, LocalTime.of(10, 0)));
+    }
+
+    @Test
+    @DisplayName("IDX-06: Yeniden yükleme sırasında okuyucular eski veriyi görmeli")
+    void load_DuringReload_ReadersShouldSeePreviousState() {
+        // Given
+        AppointmentRepository.BookedSlot slot = bookedSlot(1L, tomorrow, LocalTime.of(10, 0));
+        AtomicBoolean visibleDuringQuery = new AtomicBoolean();
+        when(appointmentRepository.findBookedSlotsFrom(any(LocalDate.class)))
+                .thenReturn(List.of(slot))
+                .thenAnswer(invocation -> {
+                    visibleDuringQuery.set(index.isOccupied(1L, tomorrow, LocalTime.of(10, 0)));
+                    return List.of(slot);
+                });
+        index.load();
+
+        // When
+        index.load();
+
+        // Then: yeni kopya kurulurken eski kopya yerinde kalır
+        assertTrue(visibleDuringQuery.get());
+        assertTrue(index.isOccupied(1L, tomorrow, LocalTime.of(10, 0)));
+    }
+
+    @Test
+    @DisplayName("IDX-07: Commit edilmemiş rezervasyon yeniden yüklemede kaybolmamalı")
+    void load_WithReservationInFlight_ShouldKeepReservation() {
+        // Given: sorgu henüz commit edilmemiş satırı görmez
+        when(appointmentRepository.findBookedSlotsFrom(any(LocalDate.class))).thenReturn(Collections.emptyList());
+        index.load();
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            assertTrue(index.tryReserve(1L, tomorrow, LocalTime.of(10, 0)));
+
+            // When
+            index.load();
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertTrue(index.isOccupied(1L, tomorrow, LocalTime.of(10, 0)));
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertFalse(index.isOccupied(1L, tomorrow, LocalTime.of(10, 0)));
+    }
+
+    private AppointmentRepository.BookedSlot bookedSlot(Long vehicleId, LocalDate date, LocalTime time) {
+        return new AppointmentRepository.BookedSlot() {
+            @Override
+            public Long getVehicleId() {
+                return vehicleId;
+            }
+
+            @Override
+            public LocalDate getAppointmentDate() {
+                return date;
+            }
+
+            @Override
+            public LocalTime getAppointmentTime() {
+                return time;
+            }
+        };
+    }
+}
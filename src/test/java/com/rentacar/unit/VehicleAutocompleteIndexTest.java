@@ -0,0 +1,85 @@
+package com.rentacar.unit;
+
+import com.rentacar.event.VehicleChangedEvent;
+import com.rentacar.model.Vehicle;
+import com.rentacar.repository.VehicleRepository;
+import com.rentacar.service.VehicleAutocompleteIndex;
+import com.rentacar.service.VehicleAutocompleteIndex.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * VehicleAutocompleteIndex Unit Testleri
+ *
+ * Test Seviyesi: UNIT TEST
+ * Araç: Mockito
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VehicleAutocompleteIndex Unit Tests")
+class VehicleAutocompleteIndexTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    private VehicleAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new VehicleAutocompleteIndex(vehicleRepository);
+        when(vehicleRepository.findAll()).thenReturn(List.of(
+                vehicle(1L, "Toyota", "Corolla"),
+                vehicle(2L, "Toyota", "Yaris"),
+                vehicle(3L, "Tesla", "Model 3")));
+        index.load();
+    }
+
+    @Test
+    @DisplayName("AC-01: Çok araçlı terim önce gelmeli")
+    void complete_ShouldRankByCount() {
+        // When
+        List<Suggestion> result = index.complete("t", 10);
+
+        // Then
+        assertEquals(new Suggestion("Toyota", 2), result.get(0));
+        assertEquals(List.of("Toyota", "Tesla", "Tesla Model 3 (2023)", "Toyota Corolla (2023)",
+                "Toyota Yaris (2023)"),
+                result.stream().map(Suggestion::text).toList());
+    }
+
+    @Test
+    @DisplayName("AC-02: Limit ve büyük / küçük harf duyarsızlığı")
+    void complete_ShouldHonourLimitAndIgnoreCase() {
+        assertEquals(List.of(new Suggestion("Toyota", 2)), index.complete("TOY", 1));
+        assertEquals(List.of(new Suggestion("Toyota Corolla (2023)", 1)), index.complete("toyota c", 5));
+        assertTrue(index.complete("x", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("AC-03: Güncelleme ve silme önerilere yansımalı")
+    void onVehicleChanged_ShouldUpdateTrie() {
+        // When
+        index.onVehicleChanged(VehicleChangedEvent.deleted(3L));
+        index.onVehicleChanged(VehicleChangedEvent.saved(vehicle(2L, "Toyota", "Camry")));
+
+        // Then
+        assertTrue(index.complete("tes", 5).isEmpty());
+        assertTrue(index.complete("yar", 5).isEmpty());
+        assertEquals(List.of(new Suggestion("Camry", 1)), index.complete("cam", 5));
+        assertEquals(new Suggestion("Toyota", 2), index.complete("to", 5).get(0));
+    }
+
+    private Vehicle vehicle(Long id, String brand, String model) {
+        Vehicle vehicle = new Vehicle(brand, model, 2023);
+        vehicle.setId(id);
+        return vehicle;
+    }
+}
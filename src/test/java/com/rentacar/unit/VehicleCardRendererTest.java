@@ -0,0 +1,104 @@
+package com.rentacar.unit;
+
+import com.rentacar.config.CacheConfig;
+import com.rentacar.controller.VehicleCardRenderer;
+import com.rentacar.model.Vehicle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.IContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * VehicleCardRenderer Unit Testleri
+ *
+ * Test Seviyesi: UNIT TEST
+ * Araç: Mockito
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VehicleCardRenderer Unit Tests")
+class VehicleCardRendererTest {
+
+    @Mock
+    private ITemplateEngine templateEngine;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.VEHICLE_CARDS);
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // Her render anındaki varyant bayrağı
+    private final List<Object> listVariantFlags = new ArrayList<>();
+
+    private VehicleCardRenderer renderer;
+    private Vehicle vehicle;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new VehicleCardRenderer(templateEngine, new StaticApplicationContext(), cacheManager, new MockServletContext(), true);
+        vehicle = new Vehicle("Toyota", "Corolla", 2023);
+        vehicle.setId(1L);
+        vehicle.setVersion(0L);
+        when(templateEngine.process(any(TemplateSpec.class), any(IContext.class))).thenAnswer(invocation -> {
+            listVariantFlags.add(invocation.<IContext>getArgument(1).getVariable("listVariant"));
+            return "<div>" + vehicle.getModel() + "</div>";
+        });
+    }
+
+    @Test
+    @DisplayName("FRG-01: Aynı version için kart bir kez render edilmeli")
+    void render_SameVersion_ShouldRenderOnce() {
+        // When
+        String first = renderer.render(List.of(vehicle), VehicleCardRenderer.Variant.LIST, request, response);
+        String second = renderer.render(List.of(vehicle), VehicleCardRenderer.Variant.LIST, request, response);
+
+        // Then
+        assertEquals("<div>Corolla</div>", first);
+        assertEquals(first, second);
+        verify(templateEngine, times(1)).process(any(TemplateSpec.class), any(IContext.class));
+    }
+
+    @Test
+    @DisplayName("FRG-02: Version değişince kart yeniden render edilmeli")
+    void render_NewVersion_ShouldRenderAgain() {
+        // Given
+        renderer.render(List.of(vehicle), VehicleCardRenderer.Variant.LIST, request, response);
+
+        // When
+        vehicle.setModel("Yaris");
+        vehicle.setVersion(1L);
+        String html = renderer.render(List.of(vehicle), VehicleCardRenderer.Variant.LIST, request, response);
+
+        // Then
+        assertEquals("<div>Yaris</div>", html);
+        verify(templateEngine, times(2)).process(any(TemplateSpec.class), any(IContext.class));
+    }
+
+    @Test
+    @DisplayName("FRG-03: Ana sayfa ve liste varyantları aynı fragment'tan ayrı ayrı render edilmeli")
+    void render_Variants_ShouldShareFragmentWithFlag() {
+        // When
+        renderer.render(List.of(vehicle), VehicleCardRenderer.Variant.HOME, request, response);
+        renderer.render(List.of(vehicle), VehicleCardRenderer.Variant.LIST, request, response);
+        renderer.render(List.of(vehicle), VehicleCardRenderer.Variant.LIST, request, response);
+
+        // Then - varyant başına bir render, önbellek varyanta göre ayrılır
+        assertEquals(List.of(false, true), listVariantFlags);
+    }
+}
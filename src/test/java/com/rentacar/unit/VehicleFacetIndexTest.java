@@ -0,0 +1,115 @@
+package com.rentacar.unit;
+
+import com.rentacar.dto.VehicleFilter;
+import com.rentacar.event.VehicleChangedEvent;
+import com.rentacar.model.Vehicle;
+import com.rentacar.repository.VehicleRepository;
+import com.rentacar.service.VehicleFacetIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * VehicleFacetIndex Unit Testleri
+ *
+ * Test Seviyesi: UNIT TEST
+ * Araç: Mockito
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VehicleFacetIndex Unit Tests")
+class VehicleFacetIndexTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    private VehicleFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new VehicleFacetIndex(vehicleRepository);
+        when(vehicleRepository.findAll()).thenReturn(List.of(
+                vehicle(1L, "Toyota", "Corolla", 2023, true),
+                vehicle(2L, "Toyota", "Yaris", 2021, true),
+                vehicle(3L, "BMW", "320i", 2024, false),
+                vehicle(4L, "BMW", "520d", 2023, true)));
+        index.load();
+    }
+
+    @Test
+    @DisplayName("FCT-01: Filtresiz sorgu tüm araçları ve sayıları dönmeli")
+    void query_NoFilter_ShouldCountAll() {
+        // When
+        VehicleFacetIndex.Result result = index.query(VehicleFilter.none(), null, 10);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L), result.vehicleIds());
+        assertEquals(Map.of("BMW", 2, "Toyota", 2), result.brandCounts());
+        assertEquals(3, result.availableCount());
+        assertEquals(1, result.unavailableCount());
+    }
+
+    @Test
+    @DisplayName("FCT-02: Filtreler kesişmeli, facet kendi filtresini saymamalı")
+    void query_WithFilters_ShouldIntersect() {
+        // When
+        VehicleFacetIndex.Result result = index.query(new VehicleFilter("BMW", null, 2023, 2024, true), null, 10);
+
+        // Then
+        assertEquals(List.of(4L), result.vehicleIds());
+        assertEquals(Map.of("BMW", 1, "Toyota", 1), result.brandCounts());
+        assertEquals(Map.of("520d", 1), result.modelCounts());
+        assertEquals(Map.of(2023, 1), result.yearCounts());
+        assertEquals(1, result.unavailableCount());
+    }
+
+    @Test
+    @DisplayName("FCT-03: Güncelleme ve silme facet'lere yansımalı")
+    void onVehicleChanged_ShouldUpdateFacets() {
+        // When
+        index.onVehicleChanged(VehicleChangedEvent.deleted(1L));
+        index.onVehicleChanged(VehicleChangedEvent.saved(vehicle(2L, "Toyota", "Yaris", 2021, false)));
+        index.onVehicleChanged(VehicleChangedEvent.saved(vehicle(5L, "Kia", "Sportage", 2022, true)));
+
+        // Then
+        VehicleFacetIndex.Result result = index.query(VehicleFilter.none(), null, 10);
+        assertEquals(List.of(2L, 3L, 4L, 5L), result.vehicleIds());
+        assertEquals(Map.of("BMW", 2, "Kia", 1, "Toyota", 1), result.brandCounts());
+        assertEquals(List.of(2L, 3L), index.query(new VehicleFilter(null, null, null, null, false), null, 10).vehicleIds());
+    }
+
+    @Test
+    @DisplayName("FCT-04: Sonuç ID sırasıyla sayfalanmalı, sayılar tüm eşleşmeleri kapsamalı")
+    void query_Paged_ShouldSeekPastCursor() {
+        // Given - slot sırası ID sırasından farklı olsun (silinen slot yeniden kullanılır)
+        index.onVehicleChanged(VehicleChangedEvent.deleted(2L));
+        index.onVehicleChanged(VehicleChangedEvent.saved(vehicle(9L, "Toyota", "Yaris", 2021, true)));
+
+        // When
+        VehicleFacetIndex.Result first = index.query(VehicleFilter.none(), null, 2);
+        VehicleFacetIndex.Result second = index.query(VehicleFilter.none(), first.nextCursor(), 2);
+
+        // Then
+        assertEquals(List.of(1L, 3L), first.vehicleIds());
+        assertEquals(3L, first.nextCursor());
+        assertEquals(4, first.matchCount());
+        assertEquals(Map.of("BMW", 2, "Toyota", 2), first.brandCounts());
+        assertEquals(List.of(4L, 9L), second.vehicleIds());
+        assertNull(second.nextCursor());
+    }
+
+    private Vehicle vehicle(Long id, String brand, String model, int year, boolean available) {
+        Vehicle vehicle = new Vehicle(brand, model, year);
+        vehicle.setId(id);
+        vehicle.setAvailable(available);
+        return vehicle;
+    }
+}
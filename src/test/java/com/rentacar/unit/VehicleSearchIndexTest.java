@@ -0,0 +1,83 @@
+package com.rentacar.unit;
+
+import com.rentacar.event.VehicleChangedEvent;
+import com.rentacar.model.Vehicle;
+import com.rentacar.repository.VehicleRepository;
+import com.rentacar.service.VehicleSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * VehicleSearchIndex Unit Testleri
+ *
+ * Test Seviyesi: UNIT TEST
+ * Araç: Mockito
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VehicleSearchIndex Unit Tests")
+class VehicleSearchIndexTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    private VehicleSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new VehicleSearchIndex(vehicleRepository);
+        when(vehicleRepository.findAll()).thenReturn(List.of(
+                vehicle(1L, "Toyota", "Corolla", 2023, "Ekonomik sedan"),
+                vehicle(2L, "BMW", "320i", 2024, "Sportif sedan"),
+                vehicle(3L, "Kia", "Sportage", 2023, "Aile için SUV")));
+        index.load();
+    }
+
+    @Test
+    @DisplayName("SRCH-01: Kelime içi alt dizgi eşleşmeli")
+    void search_Substring_ShouldMatch() {
+        assertEquals(List.of(1L), index.search("rolla"));
+    }
+
+    @Test
+    @DisplayName("SRCH-02: Kelimeler VE ile birleşmeli, marka eşleşmesi önde olmalı")
+    void search_MultiTerm_ShouldIntersectAndRank() {
+        assertEquals(List.of(3L, 2L), index.search("sport"));
+        assertEquals(List.of(1L), index.search("sedan 2023"));
+    }
+
+    @Test
+    @DisplayName("SRCH-03: Büyük / küçük harf ve Türkçe ı duyarsız olmalı")
+    void search_ShouldIgnoreCase() {
+        assertEquals(List.of(3L), index.search("KIA"));
+        assertEquals(List.of(3L), index.search("kıa"));
+    }
+
+    @Test
+    @DisplayName("SRCH-04: Güncelleme ve silme indekse yansımalı")
+    void onVehicleChanged_ShouldUpdateIndex() {
+        // When
+        index.onVehicleChanged(VehicleChangedEvent.saved(vehicle(1L, "Toyota", "Yaris", 2023, null)));
+        index.onVehicleChanged(VehicleChangedEvent.deleted(2L));
+
+        // Then
+        assertTrue(index.search("corolla").isEmpty());
+        assertEquals(List.of(1L), index.search("yaris"));
+        assertTrue(index.search("bmw").isEmpty());
+    }
+
+    private Vehicle vehicle(Long id, String brand, String model, int year, String description) {
+        Vehicle vehicle = new Vehicle(brand, model, year);
+        vehicle.setId(id);
+        vehicle.setDescription(description);
+        return vehicle;
+    }
+}
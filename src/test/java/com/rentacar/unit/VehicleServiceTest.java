@@ -3,6 +3,9 @@ package com.rentacar.unit;
 import com.rentacar.exception.ResourceNotFoundException;
 import com.rentacar.model.Vehicle;
 import com.rentacar.repository.VehicleRepository;
+import com.rentacar.service.VehicleAutocompleteIndex;
+import com.rentacar.service.VehicleFacetIndex;
+import com.rentacar.service.VehicleSearchIndex;
 import com.rentacar.service.VehicleService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,6 +39,18 @@ class VehicleServiceTest {
     @Mock
     private VehicleRepository vehicleRepository;
 
+    @Mock
+    private VehicleSearchIndex vehicleSearchIndex;
+
+    @Mock
+    private VehicleFacetIndex vehicleFacetIndex;
+
+    @Mock
+    private VehicleAutocompleteIndex vehicleAutocompleteIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private VehicleService vehicleService;
 
@@ -164,6 +180,22 @@ class VehicleServiceTest {
             // Then
             assertTrue(result.isEmpty());
         }
+
+        @Test
+        @DisplayName("VS-13: İndeks araması alaka sırasını korumalı")
+        void search_ShouldKeepIndexOrder() {
+            // Given
+            Vehicle other = new Vehicle("BMW", "320i", 2024);
+            other.setId(2L);
+            when(vehicleSearchIndex.search("2024")).thenReturn(List.of(2L, 1L));
+            when(vehicleRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(testVehicle, other));
+
+            // When
+            List<Vehicle> result = vehicleService.search("2024");
+
+            // Then
+            assertEquals(List.of(other, testVehicle), result);
+        }
     }
 
     @Nested
@@ -229,5 +261,21 @@ class VehicleServiceTest {
 
             verify(vehicleRepository, never()).delete(any());
         }
+
+        @Test
+        @DisplayName("VS-12: Birden fazla araç tek saveAll ile eklenebilmeli")
+        void createVehicles_ShouldSaveAllInOneCall() {
+            // Given
+            List<Vehicle> vehicles = Arrays.asList(testVehicle, new Vehicle("Honda", "Civic", 2024));
+            when(vehicleRepository.saveAll(vehicles)).thenReturn(vehicles);
+
+            // When
+            List<Vehicle> result = vehicleService.createVehicles(vehicles);
+
+            // Then
+            assertEquals(2, result.size());
+            verify(vehicleRepository, times(1)).saveAll(vehicles);
+            verify(vehicleRepository, never()).save(any());
+        }
     }
 }